@@ -0,0 +1,31 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+
+import java.util.ArrayList;
+
+/**
+ * Enemy without a sprite, placed part-way along a path.
+ * Same movement as the game's enemy types, none of the image loading.
+ */
+public class BenchEnemy extends Enemy {
+
+    public BenchEnemy(ArrayList<int[]> path, int startIndex, double speed, double laneOffset, int tileSize) {
+        super(path.get(startIndex)[0], path.get(startIndex)[1], tileSize);
+
+        this.enemyType = "Regular";
+        this.health = 50;
+        this.maxHealth = 50;
+        this.speed = speed;
+        this.goldReward = 3;
+        this.laneOffset = laneOffset;
+
+        setPath(path);
+        this.pathIndex = startIndex;
+    }
+
+    @Override
+    public String getEnemyType() {
+        return enemyType;
+    }
+}
@@ -0,0 +1,107 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Diffs two JMH JSON result files, typically the last release against the
+ * current build. Benchmarks are matched by name and parameters; the change
+ * column is positive when the new run is slower (all benchmarks here report
+ * time per operation).
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar com.eliemichel.polyfinite.benchmarks.BenchmarkCompare
+ *            <baseline.json> <candidate.json> [--threshold percent]
+ */
+public class BenchmarkCompare {
+
+    private static class Score {
+        double value;
+        double error;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: BenchmarkCompare <baseline.json> <candidate.json> [--threshold percent]");
+            return;
+        }
+        double threshold = 5.0;
+        if (args.length > 3 && args[2].equals("--threshold")) {
+            threshold = Double.parseDouble(args[3]);
+        }
+
+        Map<String, Score> baseline = load(Path.of(args[0]));
+        Map<String, Score> candidate = load(Path.of(args[1]));
+
+        System.out.println(String.format("%-70s %14s %14s %9s", "benchmark", "baseline", "candidate", "change"));
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score after = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println(String.format("%-70s %14s %14.3f %9s", entry.getKey(), "-", after.value, "new"));
+                continue;
+            }
+
+            double change = (after.value - before.value) / before.value * 100.0;
+            // Only flag changes bigger than both the threshold and the measurement noise
+            boolean significant = Math.abs(change) > threshold
+                    && Math.abs(after.value - before.value) > before.error + after.error;
+            String flag = !significant ? "" : (change > 0 ? "  SLOWER" : "  faster");
+            if (significant && change > 0) regressions++;
+
+            System.out.println(String.format("%-70s %14.3f %14.3f %+8.1f%%%s",
+                    entry.getKey(), before.value, after.value, change, flag));
+        }
+        for (String name : baseline.keySet()) {
+            if (!candidate.containsKey(name)) {
+                System.out.println(String.format("%-70s %14.3f %14s %9s", name, baseline.get(name).value, "-", "removed"));
+            }
+        }
+
+        System.out.println();
+        System.out.println(regressions == 0 ? "No regressions above " + threshold + "%"
+                : regressions + " regression(s) above " + threshold + "%");
+    }
+
+    // Key: short benchmark name plus its parameters, e.g. "FullTickBenchmark.tick enemyCount=1000"
+    private static Map<String, Score> load(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : results) {
+                JsonObject result = element.getAsJsonObject();
+
+                String name = result.get("benchmark").getAsString();
+                name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+                StringBuilder key = new StringBuilder(name);
+                if (result.has("params")) {
+                    Map<String, String> params = new TreeMap<>();
+                    for (Map.Entry<String, JsonElement> param : result.getAsJsonObject("params").entrySet()) {
+                        params.put(param.getKey(), param.getValue().getAsString());
+                    }
+                    params.forEach((k, v) -> key.append(' ').append(k).append('=').append(v));
+                }
+
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                Score score = new Score();
+                score.value = metric.get("score").getAsDouble();
+                // JMH writes "NaN" when there were too few iterations to compute an error
+                double error = metric.get("scoreError").getAsDouble();
+                score.error = Double.isNaN(error) ? 0 : error;
+                scores.put(key.toString(), score);
+            }
+        }
+        return scores;
+    }
+}
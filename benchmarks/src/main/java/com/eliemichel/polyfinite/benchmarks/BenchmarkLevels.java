@@ -0,0 +1,69 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Synthetic level data shared by the benchmarks.
+ */
+public final class BenchmarkLevels {
+
+    public static final int TILE_SIZE = 40;
+
+    private BenchmarkLevels() {
+    }
+
+    // Serpentine path filling a cols x rows grid, one waypoint per tile like LevelLoader produces
+    public static ArrayList<int[]> snakePath(int cols, int rows) {
+        ArrayList<int[]> path = new ArrayList<>();
+        for (int row = 0; row < rows; row += 2) {
+            boolean leftToRight = (row / 2) % 2 == 0;
+            for (int i = 0; i < cols; i++) {
+                path.add(new int[]{row, leftToRight ? i : cols - 1 - i});
+            }
+            if (row + 1 < rows) {
+                path.add(new int[]{row + 1, leftToRight ? cols - 1 : 0});
+            }
+        }
+        return path;
+    }
+
+    // Tiles beside the path on the odd rows of snakePath, where towers can stand
+    public static ArrayList<int[]> towerSpots(int cols, int rows, int spacing) {
+        ArrayList<int[]> spots = new ArrayList<>();
+        for (int row = 1; row < rows; row += 2) {
+            for (int col = 1; col < cols - 1; col += spacing) {
+                spots.add(new int[]{row, col});
+            }
+        }
+        return spots;
+    }
+
+    /**
+     * Attaches count enemies spread over the first half of the path, with game-like
+     * speeds and lane offsets. Pass a large health so towers never kill them and the
+     * population stays constant for the whole measurement.
+     */
+    public static ArrayList<Enemy> spawnEnemies(EnemyPool pool, ArrayList<int[]> path, int count, int health, long seed) {
+        ArrayList<Enemy> enemies = new ArrayList<>(count);
+        Random random = new Random(seed);
+        double[] speeds = {0.3, 0.5, 0.18};
+        for (int i = 0; i < count; i++) {
+            int startIndex = random.nextInt(path.size() / 2);
+            double speed = speeds[random.nextInt(speeds.length)] * FixedStepClock.STEPS_PER_SECOND;
+            double laneOffset = (random.nextDouble() - 0.5) * TILE_SIZE * 0.7;
+
+            Enemy enemy = new BenchEnemy(path, startIndex, speed, laneOffset, TILE_SIZE);
+            pool.attach(enemy);
+            enemy.initialize(health);
+            enemies.add(enemy);
+        }
+        // One step so positions include the lane offsets
+        pool.update(FixedStepClock.STEP);
+        return enemies;
+    }
+}
@@ -0,0 +1,49 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line and, unless
+ * -rf / -rff say otherwise, saves the results as JSON under benchmarks/results/
+ * so runs from two releases can be compared with BenchmarkCompare.
+ *
+ * Usage: java -jar benchmarks/target/benchmarks.jar [JMH options] [benchmark regex]
+ */
+public class BenchmarkRunner {
+
+    private static final Path RESULTS_DIR = Path.of("benchmarks", "results");
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            // Informational flags are handled by JMH's own launcher
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+
+        ResultFormatType format = commandLine.getResultFormat().orElse(ResultFormatType.JSON);
+        builder.resultFormat(format);
+        if (!commandLine.getResult().hasValue()) {
+            Files.createDirectories(RESULTS_DIR);
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            builder.result(RESULTS_DIR.resolve("jmh_" + stamp + "." + format.name().toLowerCase()).toString());
+        }
+
+        Options options = builder.build();
+        new Runner(options).run();
+        System.out.println("Results written to " + options.getResult().get());
+    }
+}
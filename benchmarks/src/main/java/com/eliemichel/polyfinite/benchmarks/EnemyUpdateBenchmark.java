@@ -0,0 +1,126 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One enemy movement tick: ArrayList of objects (before) vs EnemyPool arrays (after),
+ * plus Enemy.update called on each pooled view.
+ * Run with -prof gc to compare allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnemyUpdateBenchmark {
+
+    // Enemies are re-placed every RESET_TICKS so none of them walk off the end of the path
+    private static final int RESET_TICKS = 4000;
+
+    @Param({"500", "2000", "5000"})
+    public int enemyCount;
+
+    private ArrayList<int[]> path;
+    private ArrayList<LegacyEnemy> legacyEnemies;
+    private ArrayList<Enemy> enemies;
+    private EnemyPool pool;
+    private int legacyTicks;
+    private int poolTicks;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        path = BenchmarkLevels.snakePath(40, 30);
+        resetLegacy();
+        resetPool();
+    }
+
+    // Runs outside the timed region, so re-placing enemies is not counted as update time
+    @Setup(Level.Invocation)
+    public void resetIfExhausted() {
+        if (legacyTicks >= RESET_TICKS) resetLegacy();
+        if (poolTicks >= RESET_TICKS) resetPool();
+    }
+
+    @Benchmark
+    public void legacyObjectUpdate(Blackhole bh) {
+        legacyTicks++;
+        for (int i = 0; i < legacyEnemies.size(); i++) {
+            legacyEnemies.get(i).update();
+        }
+        bh.consume(legacyEnemies.get(0).getX());
+    }
+
+    @Benchmark
+    public void enemyPoolUpdate(Blackhole bh) {
+        poolTicks++;
+        bh.consume(pool.update(FixedStepClock.STEP));
+    }
+
+    // Same tick through the per-enemy API, one Enemy.update call per view
+    @Benchmark
+    public void enemyViewUpdate(Blackhole bh) {
+        poolTicks++;
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).update(FixedStepClock.STEP);
+        }
+        bh.consume(enemies.get(0).getX());
+    }
+
+    private void resetLegacy() {
+        legacyTicks = 0;
+        legacyEnemies = new ArrayList<>(enemyCount);
+        Random random = new Random(42);
+        for (int i = 0; i < enemyCount; i++) {
+            legacyEnemies.add(new LegacyEnemy(path, startIndex(random), speed(random), laneOffset(random),
+                    BenchmarkLevels.TILE_SIZE));
+        }
+    }
+
+    private void resetPool() {
+        poolTicks = 0;
+        pool = new EnemyPool(path, BenchmarkLevels.TILE_SIZE, enemyCount);
+        enemies = new ArrayList<>(enemyCount);
+        Random random = new Random(42);
+        for (int i = 0; i < enemyCount; i++) {
+            // LegacyEnemy moves in pixels per tick, the pool in pixels per second
+            double speedPerSecond = speed(random) * FixedStepClock.STEPS_PER_SECOND;
+            Enemy enemy = new BenchEnemy(path, startIndex(random), speedPerSecond, laneOffset(random),
+                    BenchmarkLevels.TILE_SIZE);
+            pool.attach(enemy);
+            enemies.add(enemy);
+        }
+    }
+
+    private int startIndex(Random random) {
+        return random.nextInt(path.size() / 2);
+    }
+
+    private static double speed(Random random) {
+        double[] speeds = {0.3, 0.5, 0.18};
+        return speeds[random.nextInt(speeds.length)];
+    }
+
+    private static double laneOffset(Random random) {
+        return (random.nextDouble() - 0.5) * BenchmarkLevels.TILE_SIZE * 0.7;
+    }
+}
@@ -0,0 +1,87 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
+import com.eliemichel.polyfinite.domain.towers.types.CannonTower;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One cannon shell exploding (ExplosiveProjectile.explode) on a crowded path.
+ * Each shell is obtained right on top of its target, so its first update
+ * detonates it; the target rotates through the population between shots.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExplosionBenchmark {
+
+    // Small map so the blast radius covers a realistic crowd at every population
+    private static final int COLS = 12;
+    private static final int ROWS = 9;
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    // Blast radius in tiles, as in CannonTower's stats table
+    @Param({"1.0", "2.0"})
+    public double explosionRange;
+
+    private ArrayList<Enemy> enemies;
+    private EnemySpatialIndex enemyIndex;
+    private ProjectilePool projectilePool;
+    private CannonTower cannon;
+    private int nextTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResearchManager.getInstance();
+
+        ArrayList<int[]> path = BenchmarkLevels.snakePath(COLS, ROWS);
+        EnemyPool pool = new EnemyPool(path, BenchmarkLevels.TILE_SIZE, enemyCount);
+        // Health high enough that nobody dies during a run, so every blast sees the same crowd
+        enemies = BenchmarkLevels.spawnEnemies(pool, path, enemyCount, Integer.MAX_VALUE / 2, 42);
+
+        enemyIndex = new EnemySpatialIndex(COLS, ROWS, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.setPath(path, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.rebuild(enemies);
+
+        projectilePool = new ProjectilePool();
+        cannon = new CannonTower(1, 1, BenchmarkLevels.TILE_SIZE);
+    }
+
+    @Benchmark
+    public void explode(Blackhole bh) {
+        Enemy target = enemies.get(nextTarget);
+        nextTarget = (nextTarget + 1) % enemies.size();
+
+        // The first step detonates the shell and hands it back to the pool
+        projectilePool.fireExplosive(target.getX(), target.getY(), target,
+                100, 300, Color.ORANGE, cannon, explosionRange);
+        projectilePool.update(FixedStepClock.STEP, enemies, enemyIndex);
+
+        bh.consume(target.getHealth());
+    }
+}
@@ -0,0 +1,73 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.towers.types.FreezingTower;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FreezingTower.update for a field of freezing towers: range query, slow
+ * application and the per-enemy XP bookkeeping, with enemies standing still.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FreezingTowerBenchmark {
+
+    private static final int COLS = 40;
+    private static final int ROWS = 30;
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    private ArrayList<Enemy> enemies;
+    private ArrayList<FreezingTower> towers;
+    private EnemySpatialIndex enemyIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResearchManager.getInstance();
+
+        ArrayList<int[]> path = BenchmarkLevels.snakePath(COLS, ROWS);
+        EnemyPool pool = new EnemyPool(path, BenchmarkLevels.TILE_SIZE, enemyCount);
+        enemies = BenchmarkLevels.spawnEnemies(pool, path, enemyCount, 1000, 42);
+
+        enemyIndex = new EnemySpatialIndex(COLS, ROWS, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.setPath(path, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.rebuild(enemies);
+
+        towers = new ArrayList<>();
+        for (int[] spot : BenchmarkLevels.towerSpots(COLS, ROWS, 4)) {
+            towers.add(new FreezingTower(spot[0], spot[1], BenchmarkLevels.TILE_SIZE));
+        }
+    }
+
+    @Benchmark
+    public void updateTowers(Blackhole bh) {
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).update(FixedStepClock.STEP, enemies, enemyIndex, null);
+        }
+        bh.consume(enemies.get(0).getSlowPercent());
+    }
+}
@@ -0,0 +1,112 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.application.gameplay.GameSimulation;
+import com.eliemichel.polyfinite.application.gameplay.LevelLoader;
+import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.tiles.Tile;
+import com.eliemichel.polyfinite.domain.towers.types.BasicTower;
+import com.eliemichel.polyfinite.domain.towers.types.CannonTower;
+import com.eliemichel.polyfinite.domain.towers.types.FreezingTower;
+import com.eliemichel.polyfinite.domain.towers.types.SniperTower;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+import com.eliemichel.polyfinite.utils.SimRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One GameSimulation.step on a real level with a full field of towers of every
+ * type: enemy movement, index rebuild, targeting, projectiles and waves together.
+ * Enemies are given enough health that the population stays at enemyCount.
+ *
+ * Loads level_N.txt, so run the benchmarks from the project root.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullTickBenchmark {
+
+    private static final int LEVEL = 2;
+    private static final int MAX_TOWERS = 16;
+
+    // The simulation is rebuilt before the fastest enemy can reach the goal and cost a life
+    private static final int RESET_TICKS = 300;
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    private LevelLoader levelLoader;
+    private GameSimulation simulation;
+    private int ticks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResearchManager.getInstance();
+
+        levelLoader = new LevelLoader();
+        levelLoader.loadLevel(LEVEL);
+        levelLoader.findSpawnAndGoal();
+        levelLoader.createEnemyPath();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetSimulation() {
+        ticks = 0;
+        simulation = new GameSimulation(levelLoader, BenchmarkLevels.TILE_SIZE, 42);
+
+        String[] types = {"Basic", "Cannon", "Freezing", "Sniper"};
+        LevelData levelData = simulation.getLevelData();
+        for (int row = 0; row < levelData.getGridHeight(); row++) {
+            for (int col = 0; col < levelData.getGridWidth(); col++) {
+                Tile tile = levelData.getTile(row, col);
+                if (tile == null || !tile.canPlaceTower() || simulation.getTowers().size() >= MAX_TOWERS) continue;
+
+                Tower tower = createTower(types[simulation.getTowers().size() % types.length], row, col);
+                tower.setRandom(new SimRandom(simulation.getTowers().size()));
+                simulation.getTowers().add(tower);
+            }
+        }
+
+        simulation.getEnemies().addAll(BenchmarkLevels.spawnEnemies(simulation.getEnemyPool(),
+                levelLoader.getEnemyPath(), enemyCount, Integer.MAX_VALUE / 2, 42));
+    }
+
+    // Runs outside the timed region, so rebuilding towers and enemies stays out of the per-tick score
+    @Setup(Level.Invocation)
+    public void resetIfExhausted() {
+        if (ticks >= RESET_TICKS) resetSimulation();
+    }
+
+    @Benchmark
+    public long tick() {
+        ticks++;
+        simulation.step(FixedStepClock.STEP);
+        return simulation.getTickCount();
+    }
+
+    private Tower createTower(String type, int row, int col) {
+        switch (type) {
+            case "Cannon": return new CannonTower(row, col, BenchmarkLevels.TILE_SIZE);
+            case "Freezing": return new FreezingTower(row, col, BenchmarkLevels.TILE_SIZE);
+            case "Sniper": return new SniperTower(row, col, BenchmarkLevels.TILE_SIZE);
+            default: return new BasicTower(row, col, BenchmarkLevels.TILE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import java.util.ArrayList;
+
+/**
+ * The object-per-enemy movement loop as it was before EnemyPool,
+ * kept only as the "before" side of EnemyUpdateBenchmark.
+ */
+public class LegacyEnemy {
+
+    private double x;
+    private double y;
+    private int health;
+    private double speed;
+    private boolean alive;
+    private boolean reachedGoal;
+    private int pathIndex;
+    private ArrayList<int[]> path;
+    private int tileSize;
+    private String enemyType;
+
+    private double laneOffset;
+    private double currentAngle;
+
+    private double slowPercent;
+    private boolean inFreezingRange;
+
+    private double targetX;
+    private double targetY;
+    private boolean needsRecalculation = true;
+
+    public LegacyEnemy(ArrayList<int[]> path, int startIndex, double speed, double laneOffset, int tileSize) {
+        int[] start = path.get(startIndex);
+        this.tileSize = tileSize;
+        this.alive = true;
+        this.health = 50;
+        this.speed = speed;
+        this.enemyType = "Regular";
+        this.x = start[1] * tileSize + tileSize / 2;
+        this.y = start[0] * tileSize + tileSize / 2;
+        this.laneOffset = laneOffset;
+        this.path = path;
+        this.pathIndex = startIndex;
+    }
+
+    public void update() {
+        if (!alive || path.isEmpty()) {
+            return;
+        }
+
+        if (!inFreezingRange && slowPercent > 0) {
+            slowPercent -= 3.0;
+            if (slowPercent < 0) slowPercent = 0;
+        }
+
+        inFreezingRange = false;
+
+        if (pathIndex >= path.size()) {
+            reachedGoalInternal();
+            return;
+        }
+
+        if (needsRecalculation) {
+            calculateTarget();
+            needsRecalculation = false;
+        }
+
+        double dx = targetX - x;
+        double dy = targetY - y;
+        double distSq = dx * dx + dy * dy;
+
+        double actualSpeed = speed * (1.0 - slowPercent / 100.0);
+        double speedThreshold = actualSpeed * 2;
+        double speedThresholdSq = speedThreshold * speedThreshold;
+
+        if (distSq < speedThresholdSq) {
+            pathIndex++;
+            needsRecalculation = true;
+            if (pathIndex >= path.size()) {
+                reachedGoalInternal();
+            }
+            return;
+        }
+
+        double distance = Math.sqrt(distSq);
+
+        if (distance > 0.1) {
+            double targetAngle = Math.toDegrees(Math.atan2(dy, dx));
+
+            double angleDiff = targetAngle - currentAngle;
+            while (angleDiff > 180) angleDiff -= 360;
+            while (angleDiff < -180) angleDiff += 360;
+
+            currentAngle += angleDiff * 0.15;
+
+            double moveX = (dx / distance) * actualSpeed;
+            double moveY = (dy / distance) * actualSpeed;
+
+            x += moveX;
+            y += moveY;
+        }
+    }
+
+    private void calculateTarget() {
+        int[] currentWaypoint = path.get(pathIndex);
+
+        double baseTargetX = currentWaypoint[1] * tileSize + tileSize / 2;
+        double baseTargetY = currentWaypoint[0] * tileSize + tileSize / 2;
+
+        double dirX, dirY;
+        if (pathIndex + 1 < path.size()) {
+            int[] nextWaypoint = path.get(pathIndex + 1);
+            dirX = nextWaypoint[1] - currentWaypoint[1];
+            dirY = nextWaypoint[0] - currentWaypoint[0];
+        } else {
+            dirX = baseTargetX - x;
+            dirY = baseTargetY - y;
+        }
+
+        double pathAngle = Math.atan2(dirY, dirX);
+        double perpAngle = pathAngle + Math.PI / 2;
+
+        if (pathIndex == path.size() - 1) {
+            targetX = baseTargetX;
+            targetY = baseTargetY;
+        } else {
+            targetX = baseTargetX + Math.cos(perpAngle) * laneOffset;
+            targetY = baseTargetY + Math.sin(perpAngle) * laneOffset;
+        }
+    }
+
+    private void reachedGoalInternal() {
+        alive = false;
+        reachedGoal = true;
+    }
+
+    public boolean isAlive() {
+        return alive;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+}
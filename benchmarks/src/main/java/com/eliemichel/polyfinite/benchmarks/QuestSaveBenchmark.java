@@ -0,0 +1,161 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.infrastructure.database.ConnectionPool;
+import com.eliemichel.polyfinite.infrastructure.database.DBConnectMySQL;
+import com.eliemichel.polyfinite.infrastructure.persistence.MySqlSaveStore;
+import com.eliemichel.polyfinite.infrastructure.persistence.QuestProgressRecord;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving one level's quest progress: a SELECT plus an UPDATE or INSERT per
+ * quest (before) vs MySqlSaveStore's single batched upsert (after), through the
+ * game's ConnectionPool.
+ *
+ * Point it at a scratch MySQL/MariaDB database for meaningful numbers:
+ *   -jvmArgsAppend "-Dpolyfinite.db.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true
+ *                   -Dpolyfinite.db.user=root -Dpolyfinite.db.password=..."
+ * Without a URL it falls back to an H2 server in MySQL mode over local TCP.
+ * H2 emulates ON DUPLICATE KEY UPDATE slowly and never rewrites batches, so
+ * the H2 numbers only check that the code runs; they favour the old path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuestSaveBenchmark {
+
+    private static final int SAVE_SLOT = 1;
+    private static final int LEVEL = 1;
+
+    @Param({"3", "10", "30"})
+    public int questCount;
+
+    private Server h2Server;
+    private MySqlSaveStore store;
+    private int progress;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        // Must be set before the pool is first used; each fork gets a fresh pool
+        if (System.getProperty("polyfinite.db.url") == null) {
+            h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            System.setProperty("polyfinite.db.url",
+                    "jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:quests;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            System.setProperty("polyfinite.db.user", "sa");
+            System.setProperty("polyfinite.db.password", "");
+        }
+
+        DBConnectMySQL db = new DBConnectMySQL();
+        try (Statement stmt = db.getConnection().createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS quest_progress (" +
+                    "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                    "save_slot_id INT NOT NULL, " +
+                    "level_number INT NOT NULL, " +
+                    "quest_id VARCHAR(100) NOT NULL, " +
+                    "current_progress INT DEFAULT 0, " +
+                    "completed BOOLEAN DEFAULT FALSE, " +
+                    "reward_granted BOOLEAN DEFAULT FALSE, " +
+                    "CONSTRAINT unique_quest UNIQUE (save_slot_id, level_number, quest_id))");
+            stmt.execute("DELETE FROM quest_progress");
+        } finally {
+            db.closeConnection();
+        }
+        store = new MySqlSaveStore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ConnectionPool.getInstance().shutdown();
+        if (h2Server != null) {
+            h2Server.stop();
+        }
+    }
+
+    @Benchmark
+    public int perQuestSelectThenWrite() throws SQLException {
+        progress++;
+        DBConnectMySQL db = new DBConnectMySQL();
+        try {
+            for (int i = 0; i < questCount; i++) {
+                legacyWrite(db, "quest_" + i, progress, false, false);
+            }
+        } finally {
+            db.closeConnection();
+        }
+        return progress;
+    }
+
+    @Benchmark
+    public int batchedUpsert() throws SQLException {
+        progress++;
+        ArrayList<QuestProgressRecord> rows = new ArrayList<>(questCount);
+        for (int i = 0; i < questCount; i++) {
+            rows.add(new QuestProgressRecord("quest_" + i, progress, false, false));
+        }
+
+        store.saveQuestProgress(SAVE_SLOT, LEVEL, rows);
+        return progress;
+    }
+
+    // The per-quest save QuestManager used before the batched upsert
+    private static void legacyWrite(DBConnectMySQL db, String questId, int progress,
+                                    boolean completed, boolean rewardGranted) throws SQLException {
+        PreparedStatement check = db.prepareStatement(
+                "SELECT id FROM quest_progress WHERE save_slot_id = ? AND level_number = ? AND quest_id = ?");
+        check.setInt(1, SAVE_SLOT);
+        check.setInt(2, LEVEL);
+        check.setString(3, questId);
+
+        boolean exists;
+        try (ResultSet rs = check.executeQuery()) {
+            exists = rs.next();
+        }
+
+        if (exists) {
+            PreparedStatement update = db.prepareStatement(
+                    "UPDATE quest_progress SET current_progress = ?, completed = ?, reward_granted = ? " +
+                    "WHERE save_slot_id = ? AND level_number = ? AND quest_id = ?");
+            update.setInt(1, progress);
+            update.setBoolean(2, completed);
+            update.setBoolean(3, rewardGranted);
+            update.setInt(4, SAVE_SLOT);
+            update.setInt(5, LEVEL);
+            update.setString(6, questId);
+            update.executeUpdate();
+        } else {
+            PreparedStatement insert = db.prepareStatement(
+                    "INSERT INTO quest_progress " +
+                    "(save_slot_id, level_number, quest_id, current_progress, completed, reward_granted) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)");
+            insert.setInt(1, SAVE_SLOT);
+            insert.setInt(2, LEVEL);
+            insert.setString(3, questId);
+            insert.setInt(4, progress);
+            insert.setBoolean(5, completed);
+            insert.setBoolean(6, rewardGranted);
+            insert.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.application.gameplay.LevelLoader;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.towers.types.BasicTower;
+import com.eliemichel.polyfinite.domain.towers.types.CannonTower;
+import com.eliemichel.polyfinite.domain.towers.types.FreezingTower;
+import com.eliemichel.polyfinite.domain.towers.types.SniperTower;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Checks that the indexed target lookup, Tower.findTarget(EnemySpatialIndex),
+ * picks the same enemy as the reference full scan, Tower.findTarget(ArrayList),
+ * for every tower type, MK level and priority on every tile of the given
+ * levels. Enemies are spread over the whole path with random health, some
+ * of them dead, and moved between snapshots. Exits with status 1 on any
+ * mismatch.
+ *
+ * Usage: java -cp benchmarks/target/benchmarks.jar com.eliemichel.polyfinite.benchmarks.TargetingCheck
+ *            [--levels 1,2,3] [--enemies N] [--seed N]
+ * Loads level_N.txt, so run it from the project root.
+ */
+public class TargetingCheck {
+
+    private static final String[] TOWER_TYPES = {"Basic", "Cannon", "Freezing", "Sniper"};
+    private static final String[] PRIORITIES = {"First", "Last", "Closest", "Strongest"};
+
+    private static final int SNAPSHOTS = 4;
+    private static final int STEPS_BETWEEN_SNAPSHOTS = 30;
+    private static final double DEAD_FRACTION = 0.1;
+    private static final int MAX_REPORTED = 10;
+
+    private long checks;
+    private long mismatches;
+
+    public static void main(String[] args) {
+        String[] levels = {"1", "2", "3"};
+        int enemyCount = 300;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--levels": levels = args[++i].split(","); break;
+                case "--enemies": enemyCount = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        ResearchManager.getInstance();
+
+        TargetingCheck check = new TargetingCheck();
+        for (String level : levels) {
+            check.checkLevel(Integer.parseInt(level), enemyCount, seed);
+        }
+
+        System.out.println("Targeting check: " + check.checks + " lookups, " + check.mismatches + " mismatches");
+        if (check.mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private void checkLevel(int levelNumber, int enemyCount, long seed) {
+        LevelLoader levelLoader = new LevelLoader();
+        levelLoader.loadLevel(levelNumber);
+        levelLoader.findSpawnAndGoal();
+        levelLoader.createEnemyPath();
+
+        LevelData levelData = levelLoader.getLevelData();
+        ArrayList<int[]> path = levelLoader.getEnemyPath();
+        int tileSize = BenchmarkLevels.TILE_SIZE;
+
+        EnemyPool pool = new EnemyPool(path, tileSize, enemyCount);
+        ArrayList<Enemy> enemies = spawnEnemies(pool, path, enemyCount, new Random(seed + levelNumber));
+
+        EnemySpatialIndex enemyIndex = new EnemySpatialIndex(levelData, tileSize);
+        enemyIndex.setPath(path, tileSize);
+
+        for (int snapshot = 0; snapshot < SNAPSHOTS; snapshot++) {
+            enemyIndex.rebuild(enemies);
+
+            for (String type : TOWER_TYPES) {
+                for (int row = 0; row < levelData.getGridHeight(); row++) {
+                    for (int col = 0; col < levelData.getGridWidth(); col++) {
+                        Tower tower = createTower(type, row, col, tileSize);
+                        while (true) {
+                            for (String priority : PRIORITIES) {
+                                tower.setTargetPriority(priority);
+                                compare(levelNumber, tower, enemies, enemyIndex);
+                            }
+                            if (!tower.canUpgrade()) break;
+                            tower.upgrade();
+                        }
+                    }
+                }
+            }
+
+            for (int step = 0; step < STEPS_BETWEEN_SNAPSHOTS; step++) {
+                pool.update(FixedStepClock.STEP);
+            }
+        }
+    }
+
+    private void compare(int levelNumber, Tower tower, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex) {
+        Enemy indexed = tower.findTarget(enemyIndex);
+        Enemy scanned = tower.findTarget(enemies);
+        checks++;
+
+        if (indexed != scanned) {
+            mismatches++;
+            if (mismatches <= MAX_REPORTED) {
+                System.out.println("Mismatch on level " + levelNumber + ": " + tower.getTowerName()
+                        + " MK." + tower.getMKLevel() + " at (" + tower.getRow() + ", " + tower.getCol() + "), "
+                        + tower.getTargetPriority() + " - index " + describe(indexed) + ", scan " + describe(scanned));
+            }
+        }
+    }
+
+    // Whole path except the goal tile, random health, a share of them already dead
+    private static ArrayList<Enemy> spawnEnemies(EnemyPool pool, ArrayList<int[]> path, int count, Random random) {
+        ArrayList<Enemy> enemies = new ArrayList<>(count);
+        double[] speeds = {0.3, 0.5, 0.18};
+        for (int i = 0; i < count; i++) {
+            int startIndex = random.nextInt(path.size() - 1);
+            double speed = speeds[random.nextInt(speeds.length)] * FixedStepClock.STEPS_PER_SECOND;
+            double laneOffset = (random.nextDouble() - 0.5) * BenchmarkLevels.TILE_SIZE * 0.7;
+
+            Enemy enemy = new BenchEnemy(path, startIndex, speed, laneOffset, BenchmarkLevels.TILE_SIZE);
+            pool.attach(enemy);
+            enemy.initialize(1 + random.nextInt(200));
+            if (random.nextDouble() < DEAD_FRACTION) {
+                enemy.takeDamage(enemy.getHealth());
+            }
+            enemies.add(enemy);
+        }
+        // One step so positions include the lane offsets
+        pool.update(FixedStepClock.STEP);
+        return enemies;
+    }
+
+    private static String describe(Enemy enemy) {
+        if (enemy == null) return "none";
+        return String.format("(%.1f, %.1f) hp %d", enemy.getX(), enemy.getY(), enemy.getHealth());
+    }
+
+    private static Tower createTower(String type, int row, int col, int tileSize) {
+        switch (type) {
+            case "Cannon": return new CannonTower(row, col, tileSize);
+            case "Freezing": return new FreezingTower(row, col, tileSize);
+            case "Sniper": return new SniperTower(row, col, tileSize);
+            default: return new BasicTower(row, col, tileSize);
+        }
+    }
+}
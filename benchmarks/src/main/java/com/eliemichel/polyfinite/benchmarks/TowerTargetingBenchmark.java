@@ -0,0 +1,77 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.towers.types.BasicTower;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tower.findTarget for a field of towers against a static enemy population,
+ * once per target priority. "First"/"Last" go through the path progress index,
+ * the others through the grid query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TowerTargetingBenchmark {
+
+    private static final int COLS = 40;
+    private static final int ROWS = 30;
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    @Param({"First", "Closest", "Strongest"})
+    public String priority;
+
+    private ArrayList<Tower> towers;
+    private EnemySpatialIndex enemyIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ResearchManager.getInstance();
+
+        ArrayList<int[]> path = BenchmarkLevels.snakePath(COLS, ROWS);
+        EnemyPool pool = new EnemyPool(path, BenchmarkLevels.TILE_SIZE, enemyCount);
+        ArrayList<Enemy> enemies = BenchmarkLevels.spawnEnemies(pool, path, enemyCount, 1000, 42);
+
+        enemyIndex = new EnemySpatialIndex(COLS, ROWS, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.setPath(path, BenchmarkLevels.TILE_SIZE);
+        enemyIndex.rebuild(enemies);
+
+        towers = new ArrayList<>();
+        for (int[] spot : BenchmarkLevels.towerSpots(COLS, ROWS, 4)) {
+            Tower tower = new BasicTower(spot[0], spot[1], BenchmarkLevels.TILE_SIZE);
+            tower.setTargetPriority(priority);
+            towers.add(tower);
+        }
+    }
+
+    @Benchmark
+    public void findTargets(Blackhole bh) {
+        for (int i = 0; i < towers.size(); i++) {
+            bh.consume(towers.get(i).findTarget(enemyIndex));
+        }
+    }
+}
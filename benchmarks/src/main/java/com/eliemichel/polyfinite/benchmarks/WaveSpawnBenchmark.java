@@ -0,0 +1,86 @@
+package com.eliemichel.polyfinite.benchmarks;
+
+import com.eliemichel.polyfinite.application.gameplay.FixedStepClock;
+import com.eliemichel.polyfinite.application.gameplay.WaveManager;
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemyWeight;
+import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.level.SpawnDensity;
+import com.eliemichel.polyfinite.utils.SimRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WaveManager.update on the tick a whole wave is due: the spawn interval is
+ * set so that burstSize enemies come out of a single update call.
+ * Each invocation starts from an empty field and a freshly started wave.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaveSpawnBenchmark {
+
+    private static final int COLS = 40;
+    private static final int ROWS = 30;
+
+    @Param({"10", "100", "1000"})
+    public int burstSize;
+
+    private ArrayList<Enemy> enemies;
+    private EnemyPool pool;
+    private WaveManager waveManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<int[]> path = BenchmarkLevels.snakePath(COLS, ROWS);
+
+        LevelData levelData = new LevelData(COLS, ROWS);
+        ArrayList<EnemyWeight> weights = new ArrayList<>();
+        weights.add(new EnemyWeight("Regular", 60));
+        weights.add(new EnemyWeight("Fast", 25));
+        weights.add(new EnemyWeight("Strong", 15));
+        levelData.setEnemyWeights(weights);
+        levelData.setSpawnDensity(SpawnDensity.CUSTOM);
+        // Slightly under STEP / burstSize so rounding never pushes the last spawn into the next tick
+        levelData.setCustomSpawnInterval(FixedStepClock.STEP / (burstSize + 1));
+        levelData.setBaseEnemyCount(burstSize);
+        levelData.setMaxEnemyCount(burstSize);
+
+        enemies = new ArrayList<>(burstSize);
+        pool = new EnemyPool(path, BenchmarkLevels.TILE_SIZE, burstSize);
+        waveManager = new WaveManager(levelData, enemies, pool, path.get(0), path, BenchmarkLevels.TILE_SIZE);
+        waveManager.setRandom(new SimRandom(42));
+    }
+
+    @Setup(Level.Invocation)
+    public void nextWave() {
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            pool.release(enemies.get(i));
+        }
+        enemies.clear();
+        waveManager.startNextWave();
+    }
+
+    @Benchmark
+    public int spawnBurst() {
+        waveManager.update(FixedStepClock.STEP);
+        return enemies.size();
+    }
+}
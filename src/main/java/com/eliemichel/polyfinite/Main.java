@@ -1,5 +1,7 @@
 package com.eliemichel.polyfinite;
 
+import com.eliemichel.polyfinite.infrastructure.persistence.PersistenceQueue;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveStores;
 import com.eliemichel.polyfinite.ui.SplashScreen;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -20,6 +22,13 @@ public class Main extends Application {
         primaryStage.setFullScreen(true);
     }
 
+    @Override
+    public void stop() {
+        // Write out anything still queued before the JVM exits
+        PersistenceQueue.getInstance().shutdown();
+        SaveStores.get().close();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
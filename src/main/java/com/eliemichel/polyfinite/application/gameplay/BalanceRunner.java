@@ -0,0 +1,282 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.domain.tiles.Tile;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line balance simulator. Plays a level many times headless with a
+ * scripted build order, one GameSimulation per run, spread over all cores,
+ * and prints how far the runs got and how much damage each tower type did.
+ *
+ * Usage: BalanceRunner [--level N] [--runs N] [--seed N] [--threads N]
+ *                      [--max-waves N] [--build Basic,Cannon,...] [--skip]
+ * Run from the project root so LevelLoader finds level_N.txt.
+ *
+ * Strategy: towers from --build are placed in order on the free buildable tile
+ * that sees the most path tiles, as soon as they are affordable. Once the list
+ * is used up, spare gold goes into the cheapest available upgrade.
+ */
+public class BalanceRunner {
+
+    private static final int TILE_SIZE = 40;
+
+    // Radius in tiles used to rank build spots by path coverage
+    private static final double PLACEMENT_RADIUS = 2.5;
+
+    // Hard stop per run, in simulated seconds
+    private static final double MAX_SIMULATED_SECONDS = 3 * 60 * 60;
+
+    private int levelNumber = 1;
+    private int runs = 500;
+    private long baseSeed = 1;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int maxWaves = 30;
+    private String[] buildOrder = {"Basic", "Basic", "Cannon", "Freezing", "Sniper", "Basic", "Cannon", "Sniper"};
+    private boolean skipTimers = false;
+
+    private int[][] buildSpots;
+
+    public static void main(String[] args) throws Exception {
+        BalanceRunner runner = new BalanceRunner();
+        runner.parseArgs(args);
+        runner.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--level": levelNumber = Integer.parseInt(args[++i]); break;
+                case "--runs": runs = Integer.parseInt(args[++i]); break;
+                case "--seed": baseSeed = Long.parseLong(args[++i]); break;
+                case "--threads": threads = Math.max(1, Integer.parseInt(args[++i])); break;
+                case "--max-waves": maxWaves = Integer.parseInt(args[++i]); break;
+                case "--build": buildOrder = args[++i].split(","); break;
+                case "--skip": skipTimers = true; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        for (String type : buildOrder) {
+            if (GameSimulation.getTowerCost(type) < 0) {
+                throw new IllegalArgumentException("Unknown tower type in --build: " + type);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        // Shared singletons must exist before worker threads touch them
+        ResearchManager.getInstance();
+
+        // Loaded once; simulations only read the level and its path, so every run shares it
+        LevelLoader level = loadLevel();
+        buildSpots = rankBuildSpots(level.getLevelData(), level.getEnemyPath());
+
+        System.out.println("Balance run: level " + levelNumber + ", " + runs + " runs, " + threads
+                + " threads, max " + maxWaves + " waves, build " + String.join(",", buildOrder));
+
+        long start = System.nanoTime();
+        List<RunResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<RunResult>> tasks = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                long seed = baseSeed + i;
+                tasks.add(() -> simulate(level, seed));
+            }
+            for (Future<RunResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        printReport(results, elapsed);
+    }
+
+    private LevelLoader loadLevel() {
+        LevelLoader loader = new LevelLoader();
+        loader.loadLevel(levelNumber);
+        loader.findSpawnAndGoal();
+        loader.createEnemyPath();
+        return loader;
+    }
+
+    private RunResult simulate(LevelLoader level, long seed) {
+        GameSimulation simulation = new GameSimulation(level, TILE_SIZE, seed);
+        Map<Tower, Long> builtAtTick = new IdentityHashMap<>();
+
+        int nextBuild = 0;
+        long maxTicks = (long) (MAX_SIMULATED_SECONDS * FixedStepClock.STEPS_PER_SECOND);
+        WaveManager waveManager = simulation.getWaveManager();
+
+        while (!simulation.isLevelEnded() && simulation.getTickCount() < maxTicks) {
+            // Spend gold: follow the build order, then upgrade
+            while (nextBuild < buildOrder.length
+                    && simulation.getPaperMoney() >= GameSimulation.getTowerCost(buildOrder[nextBuild])) {
+                Tower tower = buildOnBestSpot(simulation, buildOrder[nextBuild]);
+                if (tower == null) {
+                    nextBuild = buildOrder.length;  // Map is full
+                    break;
+                }
+                builtAtTick.put(tower, simulation.getTickCount());
+                nextBuild++;
+            }
+            if (nextBuild >= buildOrder.length) {
+                upgradeCheapest(simulation);
+            }
+
+            if (waveManager.isIdle() || (skipTimers && waveManager.isWaiting())) {
+                if (waveManager.getCurrentWave() >= maxWaves) break;
+                simulation.startWave();
+            } else if (waveManager.isWaiting() && waveManager.getCurrentWave() >= maxWaves) {
+                break;
+            }
+
+            simulation.step(FixedStepClock.STEP);
+        }
+
+        RunResult result = new RunResult();
+        result.seed = seed;
+        result.waveReached = waveManager.getCurrentWave();
+        result.survived = !simulation.isLevelEnded();
+        result.livesLeft = simulation.getLives();
+        result.simulatedSeconds = simulation.getTickCount() / FixedStepClock.STEPS_PER_SECOND;
+
+        long endTick = simulation.getTickCount();
+        for (Tower tower : simulation.getTowers()) {
+            String type = tower.getQuestTowerType();
+            double seconds = (endTick - builtAtTick.getOrDefault(tower, 0L)) / FixedStepClock.STEPS_PER_SECOND;
+            result.damageByType.merge(type, (double) tower.getDamageDealt(), Double::sum);
+            result.towerSecondsByType.merge(type, seconds, Double::sum);
+        }
+        return result;
+    }
+
+    private Tower buildOnBestSpot(GameSimulation simulation, String type) {
+        for (int[] spot : buildSpots) {
+            if (simulation.getTowerAt(spot[0], spot[1]) == null) {
+                return simulation.buildTower(type, spot[0], spot[1]);
+            }
+        }
+        return null;
+    }
+
+    private void upgradeCheapest(GameSimulation simulation) {
+        Tower cheapest = null;
+        for (Tower tower : simulation.getTowers()) {
+            if (tower.canUpgrade() && (cheapest == null || tower.getUpgradeCost() < cheapest.getUpgradeCost())) {
+                cheapest = tower;
+            }
+        }
+        if (cheapest != null && simulation.getPaperMoney() >= cheapest.getUpgradeCost()) {
+            simulation.upgradeTower(cheapest);
+        }
+    }
+
+    // Buildable tiles, best first: most path tiles within PLACEMENT_RADIUS, then top-left
+    private static int[][] rankBuildSpots(LevelData levelData, ArrayList<int[]> path) {
+        ArrayList<int[]> spots = new ArrayList<>();
+        double radiusSq = PLACEMENT_RADIUS * PLACEMENT_RADIUS;
+
+        for (int row = 0; row < levelData.getGridHeight(); row++) {
+            for (int col = 0; col < levelData.getGridWidth(); col++) {
+                Tile tile = levelData.getTile(row, col);
+                if (tile == null || !tile.canPlaceTower()) continue;
+
+                int coverage = 0;
+                for (int[] waypoint : path) {
+                    double dr = waypoint[0] - row;
+                    double dc = waypoint[1] - col;
+                    if (dr * dr + dc * dc <= radiusSq) coverage++;
+                }
+                spots.add(new int[]{row, col, coverage});
+            }
+        }
+
+        spots.sort((a, b) -> a[2] != b[2] ? Integer.compare(b[2], a[2])
+                : a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+        return spots.toArray(new int[0][]);
+    }
+
+    private void printReport(List<RunResult> results, double elapsedSeconds) {
+        int[] waves = new int[results.size()];
+        int survived = 0;
+        double simulatedSeconds = 0;
+        Map<String, Double> damage = new LinkedHashMap<>();
+        Map<String, Double> towerSeconds = new LinkedHashMap<>();
+
+        for (int i = 0; i < results.size(); i++) {
+            RunResult result = results.get(i);
+            waves[i] = result.waveReached;
+            if (result.survived) survived++;
+            simulatedSeconds += result.simulatedSeconds;
+            result.damageByType.forEach((type, value) -> damage.merge(type, value, Double::sum));
+            result.towerSecondsByType.forEach((type, value) -> towerSeconds.merge(type, value, Double::sum));
+        }
+        Arrays.sort(waves);
+
+        System.out.println();
+        System.out.println("=== BALANCE REPORT: level " + levelNumber + " ===");
+        System.out.println(String.format("Runs: %d in %.2fs (%.0f runs/min, %.0fx real time)",
+                results.size(), elapsedSeconds, results.size() / elapsedSeconds * 60,
+                simulatedSeconds / elapsedSeconds));
+        System.out.println("Survived to wave " + maxWaves + ": " + survived + "/" + results.size());
+
+        if (waves.length > 0) {
+            System.out.println(String.format("Wave reached: min %d, p10 %d, median %d, p90 %d, max %d, mean %.2f",
+                    waves[0], percentile(waves, 0.10), percentile(waves, 0.50), percentile(waves, 0.90),
+                    waves[waves.length - 1], Arrays.stream(waves).average().orElse(0)));
+
+            System.out.println("Wave distribution:");
+            int maxCount = 0;
+            Map<Integer, Integer> histogram = new LinkedHashMap<>();
+            for (int wave : waves) {
+                int count = histogram.merge(wave, 1, Integer::sum);
+                maxCount = Math.max(maxCount, count);
+            }
+            for (Map.Entry<Integer, Integer> entry : histogram.entrySet()) {
+                int bar = (int) Math.ceil(40.0 * entry.getValue() / maxCount);
+                System.out.println(String.format("  wave %3d | %-40s %d", entry.getKey(), "#".repeat(bar), entry.getValue()));
+            }
+        }
+
+        System.out.println("Damage per second by tower type (averaged over tower lifetime):");
+        for (Map.Entry<String, Double> entry : damage.entrySet()) {
+            double seconds = towerSeconds.getOrDefault(entry.getKey(), 0.0);
+            double dps = seconds > 0 ? entry.getValue() / seconds : 0;
+            System.out.println(String.format("  %-9s %8.2f dps  (%.0f damage total)", entry.getKey(), dps, entry.getValue()));
+        }
+        System.out.println("================================");
+    }
+
+    private static int percentile(int[] sorted, double p) {
+        int index = (int) Math.round(p * (sorted.length - 1));
+        return sorted[index];
+    }
+
+    private static class RunResult {
+        long seed;
+        int waveReached;
+        boolean survived;
+        int livesLeft;
+        double simulatedSeconds;
+        final Map<String, Double> damageByType = new LinkedHashMap<>();
+        final Map<String, Double> towerSecondsByType = new LinkedHashMap<>();
+    }
+}
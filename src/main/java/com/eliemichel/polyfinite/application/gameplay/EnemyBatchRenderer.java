@@ -0,0 +1,236 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.infrastructure.telemetry.AssetLoadEvent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws all enemies of a frame in a few passes with no per-enemy transform.
+ *
+ * Each enemy sprite is pre-rotated once into a sheet of ROTATION_BUCKETS
+ * frames (plus a frozen-tinted copy of each), already at its on-screen size.
+ * An enemy is then one source-rectangle drawImage from its type's sheet at
+ * the bucket nearest its heading. Enemies are grouped by sheet so the same
+ * texture is drawn from back to back, and freeze effects and health bars are
+ * each drawn in their own pass so colours are set once per pass, not once
+ * per enemy.
+ */
+public class EnemyBatchRenderer {
+
+    // 5.6 degrees per frame; finer than a 32 px sprite shows
+    private static final int ROTATION_BUCKETS = 64;
+    private static final int SHEET_COLUMNS = 8;
+
+    // Above this slow, the enemy is drawn faded with an icy tint
+    private static final double FROZEN_TINT_SLOW = 20;
+    private static final double FREEZE_PARTICLES_SLOW = 30;
+
+    private static final Color FROZEN_COLOR = Color.rgb(150, 220, 255);
+    private static final Color NORMAL_COLOR = Color.rgb(0, 230, 118);
+    private static final Color FROZEN_OVERLAY = Color.rgb(150, 220, 255, 0.3);
+    private static final Color HEALTH_BG_COLOR = Color.rgb(50, 50, 50);
+    private static final Color HEALTH_COLOR = Color.rgb(0, 230, 118);
+    private static final Color FREEZE_STROKE_COLOR = Color.rgb(150, 220, 255, 0.6);
+    private static final Color FREEZE_PARTICLE_COLOR = Color.rgb(200, 240, 255, 0.8);
+
+    // Keyed by enemy type, so types whose sprite failed to load still get their own size and name
+    private final Map<String, RotationSheet> sheets = new HashMap<>();
+    private final ArrayList<Enemy> frozen = new ArrayList<>();
+    private final ArrayList<Enemy> queued = new ArrayList<>();
+    private double sheetScale = Double.NaN;
+
+    /** Queues a living enemy for the next draw; call once per visible enemy. */
+    public void add(Enemy enemy) {
+        if (!enemy.isAlive()) {
+            return;
+        }
+
+        String enemyType = enemy.getEnemyType();
+        RotationSheet sheet = sheets.get(enemyType);
+        if (sheet == null) {
+            sheet = new RotationSheet(enemy.getSprite(), enemy.getRenderSize(), enemyType);
+            sheets.put(enemyType, sheet);
+        }
+        sheet.batch.add(enemy);
+        queued.add(enemy);
+
+        if (enemy.getSlowPercent() > 0) {
+            frozen.add(enemy);
+        }
+    }
+
+    /**
+     * Draws everything queued since the last call, then empties the queue.
+     * outputScale is the window's render scale, so the baked frames stay sharp on HiDPI screens.
+     */
+    public void draw(GraphicsContext gc, double alpha, double outputScale) {
+        if (outputScale != sheetScale) {
+            for (RotationSheet sheet : sheets.values()) {
+                sheet.image = null;
+            }
+            sheetScale = outputScale;
+        }
+
+        drawFreezeEffects(gc, alpha);
+
+        for (RotationSheet sheet : sheets.values()) {
+            if (sheet.batch.isEmpty()) continue;
+            if (sheet.image == null) {
+                sheet.bake(sheetScale);
+            }
+            for (Enemy enemy : sheet.batch) {
+                sheet.draw(gc, enemy, alpha);
+            }
+            sheet.batch.clear();
+        }
+
+        drawHealthBars(gc, alpha);
+
+        frozen.clear();
+        queued.clear();
+    }
+
+    // Drawn under the sprites, as rings and three ice particles around slowed enemies
+    private void drawFreezeEffects(GraphicsContext gc, double alpha) {
+        if (frozen.isEmpty()) return;
+
+        gc.setStroke(FREEZE_STROKE_COLOR);
+        gc.setLineWidth(2);
+        for (Enemy enemy : frozen) {
+            double x = enemy.getRenderX(alpha);
+            double y = enemy.getRenderY(alpha);
+            double effectSize = enemy.getRenderSize() * 0.6;
+            gc.strokeOval(x - effectSize, y - effectSize, effectSize * 2, effectSize * 2);
+        }
+
+        gc.setFill(FREEZE_PARTICLE_COLOR);
+        for (Enemy enemy : frozen) {
+            if (enemy.getSlowPercent() <= FREEZE_PARTICLES_SLOW) continue;
+
+            double x = enemy.getRenderX(alpha);
+            double y = enemy.getRenderY(alpha);
+            double halfSize = enemy.getRenderSize() / 2;
+            double baseAngle = (x + y) % 360;
+
+            for (int i = 0; i < 3; i++) {
+                double angle = Math.toRadians((baseAngle + i * 120) % 360);
+                double px = x + Math.cos(angle) * halfSize;
+                double py = y + Math.sin(angle) * halfSize;
+                gc.fillOval(px - 2, py - 2, 4, 4);
+            }
+        }
+    }
+
+    // All backgrounds, then all fills, so the colour changes twice per frame
+    private void drawHealthBars(GraphicsContext gc, double alpha) {
+        gc.setFill(HEALTH_BG_COLOR);
+        for (Enemy enemy : queued) {
+            double size = enemy.getRenderSize();
+            double x = enemy.getRenderX(alpha) - size / 2;
+            double y = enemy.getRenderY(alpha) - size / 2 - 8;
+            gc.fillRect(x, y, size, 4);
+        }
+
+        gc.setFill(HEALTH_COLOR);
+        for (Enemy enemy : queued) {
+            double size = enemy.getRenderSize();
+            double x = enemy.getRenderX(alpha) - size / 2;
+            double y = enemy.getRenderY(alpha) - size / 2 - 8;
+            double healthPercent = (double) enemy.getHealth() / enemy.getMaxHealth();
+            gc.fillRect(x, y, size * healthPercent, 4);
+        }
+    }
+
+    // One enemy sprite pre-rotated into ROTATION_BUCKETS normal frames followed by as many frozen ones
+    private static class RotationSheet {
+        private final Image sprite;
+        private final double renderSize;
+        private final String name;
+        // Square cell that holds the sprite at any angle, with a pixel of padding against bleeding
+        private final double cellSize;
+        private final ArrayList<Enemy> batch = new ArrayList<>();
+
+        private Image image;
+        private double imageScale;
+
+        RotationSheet(Image sprite, double renderSize, String enemyType) {
+            this.sprite = sprite;
+            this.renderSize = renderSize;
+            this.name = "enemy-rotations/" + enemyType;
+            this.cellSize = Math.ceil(renderSize * Math.sqrt(2)) + 2;
+        }
+
+        // Reported to Flight Recorder like an image load, since it is one-off work on the render path
+        void bake(double scale) {
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            int rows = 2 * ROTATION_BUCKETS / SHEET_COLUMNS;
+            Canvas canvas = new Canvas(SHEET_COLUMNS * cellSize, rows * cellSize);
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+
+            for (int frame = 0; frame < 2 * ROTATION_BUCKETS; frame++) {
+                boolean frozenFrame = frame >= ROTATION_BUCKETS;
+                double half = renderSize / 2;
+
+                gc.save();
+                gc.translate((frame % SHEET_COLUMNS + 0.5) * cellSize, (frame / SHEET_COLUMNS + 0.5) * cellSize);
+                gc.rotate((frame % ROTATION_BUCKETS) * 360.0 / ROTATION_BUCKETS);
+
+                if (sprite == null) {
+                    gc.setFill(frozenFrame ? FROZEN_COLOR : NORMAL_COLOR);
+                    gc.fillRect(-half, -half, renderSize, renderSize);
+                } else if (frozenFrame) {
+                    gc.setGlobalAlpha(0.7);
+                    gc.drawImage(sprite, -half, -half, renderSize, renderSize);
+                    gc.setGlobalAlpha(1.0);
+                    gc.setFill(FROZEN_OVERLAY);
+                    gc.fillRect(-half, -half, renderSize, renderSize);
+                } else {
+                    gc.drawImage(sprite, -half, -half, renderSize, renderSize);
+                }
+
+                gc.restore();
+            }
+
+            SnapshotParameters params = new SnapshotParameters();
+            params.setFill(Color.TRANSPARENT);
+            params.setTransform(Transform.scale(scale, scale));
+            image = canvas.snapshot(params, null);
+            imageScale = scale;
+
+            if (event.shouldCommit()) {
+                event.path = name;
+                event.width = (int) image.getWidth();
+                event.height = (int) image.getHeight();
+                event.success = !image.isError();
+                event.commit();
+            }
+        }
+
+        void draw(GraphicsContext gc, Enemy enemy, double alpha) {
+            double angle = enemy.getAngle() % 360;
+            if (angle < 0) angle += 360;
+            int frame = (int) Math.round(angle * ROTATION_BUCKETS / 360.0) % ROTATION_BUCKETS;
+            if (enemy.getSlowPercent() > FROZEN_TINT_SLOW) {
+                frame += ROTATION_BUCKETS;
+            }
+
+            double sourceSize = cellSize * imageScale;
+            double sourceX = (frame % SHEET_COLUMNS) * sourceSize;
+            double sourceY = (frame / SHEET_COLUMNS) * sourceSize;
+            double x = enemy.getRenderX(alpha) - cellSize / 2;
+            double y = enemy.getRenderY(alpha) - cellSize / 2;
+
+            gc.drawImage(image, sourceX, sourceY, sourceSize, sourceSize, x, y, cellSize, cellSize);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+/**
+ * Turns variable render-frame times into a whole number of fixed simulation steps.
+ * The simulation always advances by STEP seconds, whatever the monitor refresh rate,
+ * and the renderer blends positions with getAlpha() for the leftover fraction.
+ *
+ * Game speed (2x / 4x) is handled here by feeding more time into the accumulator,
+ * so the simulation just runs extra steps per frame.
+ */
+public class FixedStepClock {
+
+    public static final double STEPS_PER_SECOND = 60.0;
+    public static final double STEP = 1.0 / STEPS_PER_SECOND;
+
+    // Steps allowed per frame at 1x; beyond this, time is dropped instead of spiralling
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    private static final int[] SPEED_MULTIPLIERS = {1, 2, 4};
+
+    private double accumulator;
+    private int speedIndex;
+
+    // Adds one frame's worth of real time and returns how many steps to simulate
+    public int advance(double frameSeconds) {
+        if (frameSeconds < 0) frameSeconds = 0;
+
+        accumulator += frameSeconds * getSpeedMultiplier();
+
+        int steps = (int) (accumulator / STEP);
+        int maxSteps = MAX_STEPS_PER_FRAME * getSpeedMultiplier();
+        if (steps > maxSteps) {
+            steps = maxSteps;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * STEP;
+        }
+
+        return steps;
+    }
+
+    // Fraction of a step left in the accumulator, for render interpolation (0..1)
+    public double getAlpha() {
+        return Math.min(1.0, accumulator / STEP);
+    }
+
+    public void reset() {
+        accumulator = 0;
+    }
+
+    public int getSpeedMultiplier() {
+        return SPEED_MULTIPLIERS[speedIndex];
+    }
+
+    // Cycles 1x -> 2x -> 4x -> 1x and returns the new multiplier
+    public int cycleSpeed() {
+        speedIndex = (speedIndex + 1) % SPEED_MULTIPLIERS.length;
+        return getSpeedMultiplier();
+    }
+}
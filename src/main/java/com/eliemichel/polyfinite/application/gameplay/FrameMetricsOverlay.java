@@ -0,0 +1,88 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import com.eliemichel.polyfinite.infrastructure.telemetry.FrameMetrics;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Small canvas showing the latest FrameMetrics snapshot, toggled in-game.
+ * Sits outside the camera group so it stays put while the map pans and zooms.
+ */
+public class FrameMetricsOverlay {
+
+    private static final double WIDTH = 360;
+    private static final double HEIGHT = 206;
+    private static final double LINE_HEIGHT = 16;
+
+    private static final Color BACKGROUND_COLOR = Color.rgb(0, 0, 0, 0.7);
+    private static final Color TEXT_COLOR = Color.rgb(220, 220, 220);
+    private static final Color WARNING_COLOR = Color.rgb(255, 170, 60);
+    private static final Font FONT = Font.font("Monospaced", 12);
+
+    // Frames slower than this at p99 are highlighted (one 60 Hz frame)
+    private static final long FRAME_BUDGET_MICROS = 16_667;
+
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private FrameMetrics.Snapshot drawnSnapshot;
+
+    public FrameMetricsOverlay() {
+        canvas.setMouseTransparent(true);
+        canvas.setVisible(false);
+    }
+
+    public Canvas getNode() {
+        return canvas;
+    }
+
+    public void toggle() {
+        canvas.setVisible(!canvas.isVisible());
+    }
+
+    public boolean isVisible() {
+        return canvas.isVisible();
+    }
+
+    // OPTIMIZATION: Snapshots change once per second, so only redraw when a new one arrives
+    public void update(FrameMetrics metrics) {
+        FrameMetrics.Snapshot snapshot = metrics.getLatest();
+        if (!canvas.isVisible() || snapshot == null || snapshot == drawnSnapshot) return;
+        drawnSnapshot = snapshot;
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, WIDTH, HEIGHT);
+        gc.setFill(BACKGROUND_COLOR);
+        gc.fillRect(0, 0, WIDTH, HEIGHT);
+        gc.setFont(FONT);
+
+        double y = LINE_HEIGHT;
+        gc.setFill(TEXT_COLOR);
+        gc.fillText(String.format("%d fps   alloc %s", snapshot.fps, formatAllocation(snapshot.allocatedMbPerSecond)), 8, y);
+        y += LINE_HEIGHT;
+        gc.fillText(String.format("enemies %d   projectiles %d (pooled %d)",
+                snapshot.enemies, snapshot.projectiles, snapshot.pooledProjectiles), 8, y);
+        y += LINE_HEIGHT;
+        gc.fillText(String.format("projectile peak %d   created %d",
+                snapshot.projectileHighWaterMark, snapshot.projectilesCreated), 8, y);
+        y += LINE_HEIGHT * 1.5;
+
+        gc.fillText(String.format("%-11s %8s %8s %8s", "phase (ms)", "p50", "p99", "max"), 8, y);
+        for (FrameMetrics.Phase phase : FrameMetrics.Phase.values()) {
+            y += LINE_HEIGHT;
+            int i = phase.ordinal();
+            boolean overBudget = phase == FrameMetrics.Phase.FRAME && snapshot.p99[i] > FRAME_BUDGET_MICROS;
+            gc.setFill(overBudget ? WARNING_COLOR : TEXT_COLOR);
+            gc.fillText(String.format("%-11s %8.2f %8.2f %8.2f", phase.name().toLowerCase(),
+                    snapshot.p50[i] / 1000.0, snapshot.p99[i] / 1000.0, snapshot.max[i] / 1000.0), 8, y);
+        }
+
+        y += LINE_HEIGHT * 1.5;
+        gc.setFill(TEXT_COLOR);
+        gc.fillText("F3 hide   F4 export CSV", 8, y);
+    }
+
+    private static String formatAllocation(double megabytesPerSecond) {
+        return megabytesPerSecond < 0 ? "n/a" : String.format("%.1f MB/s", megabytesPerSecond);
+    }
+}
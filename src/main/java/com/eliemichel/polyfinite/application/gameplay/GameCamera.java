@@ -1,6 +1,9 @@
 package com.eliemichel.polyfinite.application.gameplay;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.layout.Region;
 
 public class GameCamera {
 
@@ -94,6 +97,28 @@ public class GameCamera {
         return new int[]{row, col};
     }
 
+    /**
+     * The part of the level currently on screen, in level pixels with the
+     * origin at the top-left tile. Uses the same mapping as screenToTile; the
+     * result may extend past the level when zoomed out or panned to an edge.
+     */
+    public Rectangle2D getVisibleArea(double levelWidth, double levelHeight) {
+        double viewportWidth = 1920;
+        double viewportHeight = 1080;
+        Parent container = canvasGroup.getParent();
+        if (container instanceof Region && ((Region) container).getWidth() > 0) {
+            viewportWidth = ((Region) container).getWidth();
+            viewportHeight = ((Region) container).getHeight();
+        }
+
+        double width = viewportWidth / zoomLevel;
+        double height = viewportHeight / zoomLevel;
+        double centerX = levelWidth / 2.0 - canvasTranslateX / zoomLevel;
+        double centerY = levelHeight / 2.0 - canvasTranslateY / zoomLevel;
+
+        return new Rectangle2D(centerX - width / 2, centerY - height / 2, width, height);
+    }
+
     public boolean isDragging() {
         return isDragging;
     }
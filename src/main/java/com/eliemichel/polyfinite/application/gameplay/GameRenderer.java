@@ -2,15 +2,19 @@ package com.eliemichel.polyfinite.application.gameplay;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
 import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.towers.ExplosiveProjectile;
 import com.eliemichel.polyfinite.domain.towers.Projectile;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import com.eliemichel.polyfinite.domain.tiles.*;
 import com.eliemichel.polyfinite.domain.towers.types.Tower;
 import com.eliemichel.polyfinite.utils.AtlasManager;
+import com.eliemichel.polyfinite.utils.AtlasSprite;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 public class GameRenderer {
 
@@ -34,11 +38,30 @@ public class GameRenderer {
     private static final Color RANGE_PREVIEW_COLOR = Color.rgb(0, 229, 255, 0.5);
 
 
-    private Image spawnOverlayImage;
-    private Image spawnPortalImage;
-    private Image spawnGlowImage;
-    private Image targetHollowImage;
-    private Image targetBaseImage;
+    private AtlasSprite spawnOverlaySprite;
+    private AtlasSprite spawnPortalSprite;
+    private AtlasSprite spawnGlowSprite;
+    private AtlasSprite targetHollowSprite;
+    private AtlasSprite targetBaseSprite;
+
+    // OPTIMIZATION: Tiles never change during play, so the terrain layer is drawn once
+    // and kept; this only forces a redraw after invalidateTerrain()
+    private boolean terrainDirty = true;
+    private double layersOutputScale = Double.NaN;
+
+    // What the tower and highlight layers currently show
+    private int drawnTowerCount = -1;
+    private Tower drawnSelectedTower;
+    private int drawnSelectedRow = -1;
+    private int drawnSelectedCol = -1;
+    private String drawnTowerToPlace;
+
+    // OPTIMIZATION: Only what the camera shows is drawn. The cached layers cover the view plus
+    // half a screen each way, so small pans reuse them; null areas mean the whole level
+    private Rectangle2D visibleArea;
+    private Rectangle2D cachedArea;
+
+    private final EnemyBatchRenderer enemyBatch = new EnemyBatchRenderer();
 
     public GameRenderer(LevelData levelData, int tileSize, double canvasOffsetX, double canvasOffsetY) {
         this.levelData = levelData;
@@ -46,7 +69,7 @@ public class GameRenderer {
         this.canvasOffsetX = canvasOffsetX;
         this.canvasOffsetY = canvasOffsetY;
 
-        // OPTIMIZATION: Cache all tile images ONCE
+        // OPTIMIZATION: Resolve each tile's atlas region ONCE; drawing reads straight from the atlas texture
         cacheAllTileImages();
         loadSharedImages();
     }
@@ -59,26 +82,26 @@ public class GameRenderer {
                 try {
                     if (tile instanceof RoadTile) {
                         RoadTile roadTile = (RoadTile) tile;
-                        Image img = AtlasManager.getInstance().getAtlas().getRegion(roadTile.getTextureName());
-                        tile.setCachedImage(img);
+                        AtlasSprite sprite = AtlasManager.getInstance().getAtlas().getSprite(roadTile.getTextureName());
+                        tile.setCachedSprite(sprite);
 
                     } else if (tile instanceof PlatformTile) {
                         PlatformTile platformTile = (PlatformTile) tile;
-                        Image img = AtlasManager.getInstance().getAtlas().getRegion(platformTile.getTextureName());
-                        tile.setCachedImage(img);
+                        AtlasSprite sprite = AtlasManager.getInstance().getAtlas().getSprite(platformTile.getTextureName());
+                        tile.setCachedSprite(sprite);
 
                     } else if (tile instanceof SpawnTile) {
                         SpawnTile spawnTile = (SpawnTile) tile;
-                        Image img = AtlasManager.getInstance().getAtlas().getRegion(spawnTile.getRoadTextureName());
-                        tile.setCachedImage(img);
+                        AtlasSprite sprite = AtlasManager.getInstance().getAtlas().getSprite(spawnTile.getRoadTextureName());
+                        tile.setCachedSprite(sprite);
 
                     } else if (tile instanceof GoalTile) {
                         GoalTile goalTile = (GoalTile) tile;
-                        Image img = AtlasManager.getInstance().getAtlas().getRegion(goalTile.getRoadTextureName());
-                        tile.setCachedImage(img);
+                        AtlasSprite sprite = AtlasManager.getInstance().getAtlas().getSprite(goalTile.getRoadTextureName());
+                        tile.setCachedSprite(sprite);
                     }
                 } catch (Exception e) {
-                    tile.setCachedImage(null);
+                    tile.setCachedSprite(null);
                 }
             }
         }
@@ -87,49 +110,174 @@ public class GameRenderer {
 
     private void loadSharedImages() {
         try {
-            spawnOverlayImage = AtlasManager.getInstance().getAtlas().getRegion("tile-type-spawn-overlay");
-            spawnPortalImage = AtlasManager.getInstance().getAtlas().getRegion("tile-type-spawn-portal");
-            spawnGlowImage = AtlasManager.getInstance().getAtlas().getRegion("tile-type-spawn-glow");
-            targetHollowImage = AtlasManager.getInstance().getAtlas().getRegion("tile-type-target-hollow");
-            targetBaseImage = AtlasManager.getInstance().getAtlas().getRegion("tile-type-target-base");
+            spawnOverlaySprite = AtlasManager.getInstance().getAtlas().getSprite("tile-type-spawn-overlay");
+            spawnPortalSprite = AtlasManager.getInstance().getAtlas().getSprite("tile-type-spawn-portal");
+            spawnGlowSprite = AtlasManager.getInstance().getAtlas().getSprite("tile-type-spawn-glow");
+            targetHollowSprite = AtlasManager.getInstance().getAtlas().getSprite("tile-type-target-hollow");
+            targetBaseSprite = AtlasManager.getInstance().getAtlas().getSprite("tile-type-target-base");
         } catch (Exception e) {
             System.out.println("Error loading shared images: " + e.getMessage());
         }
     }
 
 
-    public void render(GraphicsContext gc, ArrayList<Tower> towers, ArrayList<Projectile> projectiles, ArrayList<Enemy> enemies,
+    public void render(RenderLayerStack layers, ArrayList<Tower> towers, ProjectilePool projectiles, ArrayList<Enemy> enemies,
                        Tower selectedTower, int selectedTileRow, int selectedTileCol, String towerToPlace) {
-        gc.setImageSmoothing(false);
-        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        render(layers, towers, projectiles, enemies, selectedTower, selectedTileRow, selectedTileCol, towerToPlace, 1.0);
+    }
 
-        gc.save();
-        gc.translate(canvasOffsetX, canvasOffsetY);
+    // alpha: fraction of a simulation step since the last update, used to interpolate moving things
+    public void render(RenderLayerStack layers, ArrayList<Tower> towers, ProjectilePool projectiles, ArrayList<Enemy> enemies,
+                       Tower selectedTower, int selectedTileRow, int selectedTileCol, String towerToPlace,
+                       double alpha) {
+        // Canvases keep their pixels at the scale they were drawn at, so a move to a HiDPI screen redraws all
+        double outputScale = layers.getOutputScale();
+        if (outputScale != layersOutputScale) {
+            layers.markAllDirty();
+            layersOutputScale = outputScale;
+        }
+        if (terrainDirty) {
+            layers.markDirty(RenderLayerStack.Layer.TERRAIN);
+            terrainDirty = false;
+        }
+
+        boolean viewOutsideCache = visibleArea == null
+                ? cachedArea != null
+                : cachedArea == null || !cachedArea.contains(visibleArea);
+        if (viewOutsideCache) {
+            cachedArea = visibleArea == null ? null
+                    : expand(visibleArea, visibleArea.getWidth() / 2, visibleArea.getHeight() / 2);
+            layers.markDirty(RenderLayerStack.Layer.TERRAIN);
+            layers.markDirty(RenderLayerStack.Layer.TOWERS);
+        }
 
-        drawLevel(gc);
+        // Towers turning off screen don't cost a redraw
+        boolean towersChanged = towers.size() != drawnTowerCount;
+        for (int i = 0; i < towers.size() && !towersChanged; i++) {
+            Tower tower = towers.get(i);
+            towersChanged = tower.hasBodyChanged() && isInside(cachedArea, tower.getX(), tower.getY(), tileSize);
+        }
+        if (towersChanged) {
+            layers.markDirty(RenderLayerStack.Layer.TOWERS);
+        }
+
+        // An upgrade grows the selected tower's range circle
+        if (selectedTower != drawnSelectedTower || selectedTileRow != drawnSelectedRow
+                || selectedTileCol != drawnSelectedCol || !Objects.equals(towerToPlace, drawnTowerToPlace)
+                || (selectedTower != null && selectedTower.hasBodyChanged())) {
+            layers.markDirty(RenderLayerStack.Layer.HIGHLIGHTS);
+        }
+
+        if (layers.isDirty(RenderLayerStack.Layer.TERRAIN)) {
+            GraphicsContext gc = beginLayer(layers, RenderLayerStack.Layer.TERRAIN);
+            drawLevel(gc, cachedArea);
+            gc.restore();
+        }
 
+        if (layers.isDirty(RenderLayerStack.Layer.TOWERS)) {
+            GraphicsContext gc = beginLayer(layers, RenderLayerStack.Layer.TOWERS);
+            for (Tower tower : towers) {
+                if (isInside(cachedArea, tower.getX(), tower.getY(), tileSize)) {
+                    tower.drawBody(gc);
+                }
+                tower.markBodyDrawn();
+            }
+            gc.restore();
+            drawnTowerCount = towers.size();
+        }
+
+        // Something moves nearly every frame, so this layer is always redrawn
+        GraphicsContext entitiesGc = beginLayer(layers, RenderLayerStack.Layer.ENTITIES);
         for (Tower tower : towers) {
-            boolean showRange = tower == selectedTower;
-            tower.draw(gc, showRange);
+            // Effects (pulses, aiming cones) reach as far as the tower's range
+            double effectRadius = (tower.getRange() + 1) * tileSize;
+            if (isInside(visibleArea, tower.getX(), tower.getY(), effectRadius)) {
+                tower.drawEffects(entitiesGc, alpha);
+            }
         }
 
-        for (Projectile projectile : projectiles) {
-            projectile.draw(gc);
+        for (ExplosiveProjectile shell : projectiles.getActiveExplosives()) {
+            if (isInside(visibleArea, shell.getX(), shell.getY(), tileSize)) {
+                shell.draw(entitiesGc, alpha);
+            }
+        }
+
+        for (Projectile projectile : projectiles.getActive()) {
+            if (isInside(visibleArea, projectile.getX(), projectile.getY(), tileSize)) {
+                projectile.draw(entitiesGc, alpha);
+            }
         }
 
         for (Enemy enemy : enemies) {
-            enemy.draw(gc);
+            if (isInside(visibleArea, enemy.getX(), enemy.getY(), tileSize)) {
+                enemyBatch.add(enemy);
+            }
         }
+        enemyBatch.draw(entitiesGc, alpha, layersOutputScale);
+        entitiesGc.restore();
 
-        drawRangePreview(gc, towerToPlace, selectedTileRow, selectedTileCol);
-        drawSelectedTileHighlight(gc, selectedTileRow, selectedTileCol);
+        if (layers.isDirty(RenderLayerStack.Layer.HIGHLIGHTS)) {
+            GraphicsContext gc = beginLayer(layers, RenderLayerStack.Layer.HIGHLIGHTS);
+            if (selectedTower != null) {
+                selectedTower.drawRangeOverlay(gc);
+            }
+            drawRangePreview(gc, towerToPlace, selectedTileRow, selectedTileCol);
+            drawSelectedTileHighlight(gc, selectedTileRow, selectedTileCol);
+            gc.restore();
+
+            drawnSelectedTower = selectedTower;
+            drawnSelectedRow = selectedTileRow;
+            drawnSelectedCol = selectedTileCol;
+            drawnTowerToPlace = towerToPlace;
+        }
+    }
 
-        gc.restore();
+    /**
+     * The part of the level on screen, from GameCamera.getVisibleArea, in the
+     * same level pixels the renderer draws in; null draws everything.
+     */
+    public void setVisibleArea(Rectangle2D visibleArea) {
+        this.visibleArea = visibleArea;
     }
 
-    private void drawLevel(GraphicsContext gc) {
-        for (int row = 0; row < levelData.getGridHeight(); row++) {
-            for (int col = 0; col < levelData.getGridWidth(); col++) {
+    /** Redraws the terrain layer on the next frame; call after changing the level's tiles. */
+    public void invalidateTerrain() {
+        terrainDirty = true;
+    }
+
+    // Clears the layer and moves the origin to the level's top-left tile; callers restore() when done
+    private GraphicsContext beginLayer(RenderLayerStack layers, RenderLayerStack.Layer layer) {
+        GraphicsContext gc = layers.beginLayer(layer);
+        gc.save();
+        gc.translate(canvasOffsetX, canvasOffsetY);
+        return gc;
+    }
+
+    // True if a thing centred at (x, y) and reaching radius around it overlaps the area
+    private static boolean isInside(Rectangle2D area, double x, double y, double radius) {
+        return area == null || (x + radius >= area.getMinX() && x - radius <= area.getMaxX()
+                && y + radius >= area.getMinY() && y - radius <= area.getMaxY());
+    }
+
+    private static Rectangle2D expand(Rectangle2D area, double dx, double dy) {
+        return new Rectangle2D(area.getMinX() - dx, area.getMinY() - dy,
+                area.getWidth() + dx * 2, area.getHeight() + dy * 2);
+    }
+
+    private void drawLevel(GraphicsContext gc, Rectangle2D area) {
+        int firstRow = 0;
+        int lastRow = levelData.getGridHeight() - 1;
+        int firstCol = 0;
+        int lastCol = levelData.getGridWidth() - 1;
+        if (area != null) {
+            firstRow = Math.max(firstRow, (int) Math.floor(area.getMinY() / tileSize));
+            lastRow = Math.min(lastRow, (int) Math.floor(area.getMaxY() / tileSize));
+            firstCol = Math.max(firstCol, (int) Math.floor(area.getMinX() / tileSize));
+            lastCol = Math.min(lastCol, (int) Math.floor(area.getMaxX() / tileSize));
+        }
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
                 Tile tile = levelData.getTile(row, col);
                 double x = col * tileSize;
                 double y = row * tileSize;
@@ -139,23 +287,23 @@ public class GameRenderer {
                     gc.fillRect(x, y, tileSize, tileSize);
 
                 } else if (tile instanceof RoadTile) {
-                    Image roadTexture = tile.getCachedImage();  // ✅ Use cached Image
+                    AtlasSprite roadTexture = tile.getCachedSprite();  // ✅ Use cached sprite
                     if (roadTexture != null) {
-                        gc.drawImage(roadTexture, x, y, tileSize, tileSize);
+                        roadTexture.draw(gc, x, y, tileSize, tileSize);
                     } else {
                         gc.setFill(ROAD_FALLBACK_COLOR);  // ✅ Use cached Color
                         gc.fillRect(x, y, tileSize, tileSize);
                     }
 
                 } else if (tile instanceof PlatformTile) {
-                    Image platformTexture = tile.getCachedImage();  // ✅ Use cached Image
+                    AtlasSprite platformTexture = tile.getCachedSprite();  // ✅ Use cached sprite
                     if (platformTexture != null) {
                         double scaleFactor = 0.9;
                         double scaledSize = tileSize * scaleFactor;
                         double offsetX = (tileSize - scaledSize) / 2;
                         double offsetY = (tileSize - scaledSize) / 2;
 
-                        gc.drawImage(platformTexture, x + offsetX, y + offsetY, scaledSize, scaledSize);
+                        platformTexture.draw(gc, x + offsetX, y + offsetY, scaledSize, scaledSize);
                         gc.setFill(PLATFORM_OVERLAY_COLOR);  // ✅ Use cached Color
                         gc.fillRect(x + offsetX, y + offsetY, scaledSize, scaledSize);
                     } else {
@@ -164,29 +312,29 @@ public class GameRenderer {
                     }
 
                 } else if (tile instanceof SpawnTile) {
-                    Image roadTexture = tile.getCachedImage();  // ✅ Use cached Image
-                    if (roadTexture != null && spawnOverlayImage != null) {
-                        gc.drawImage(roadTexture, x, y, tileSize, tileSize);
-                        gc.drawImage(spawnOverlayImage, x, y, tileSize, tileSize);
-                        gc.drawImage(spawnPortalImage, x, y, tileSize, tileSize);
-                        gc.drawImage(spawnGlowImage, x, y, tileSize, tileSize);
+                    AtlasSprite roadTexture = tile.getCachedSprite();  // ✅ Use cached sprite
+                    if (roadTexture != null && spawnOverlaySprite != null) {
+                        roadTexture.draw(gc, x, y, tileSize, tileSize);
+                        spawnOverlaySprite.draw(gc, x, y, tileSize, tileSize);
+                        spawnPortalSprite.draw(gc, x, y, tileSize, tileSize);
+                        spawnGlowSprite.draw(gc, x, y, tileSize, tileSize);
                     } else {
                         gc.setFill(SPAWN_FALLBACK_COLOR);  // ✅ Use cached Color
                         gc.fillRect(x, y, tileSize, tileSize);
                     }
 
                 } else if (tile instanceof GoalTile) {
-                    Image roadTexture = tile.getCachedImage();  // ✅ Use cached Image
-                    if (roadTexture != null && targetHollowImage != null) {
-                        gc.drawImage(roadTexture, x, y, tileSize, tileSize);
-                        gc.drawImage(targetHollowImage, x, y, tileSize, tileSize);
+                    AtlasSprite roadTexture = tile.getCachedSprite();  // ✅ Use cached sprite
+                    if (roadTexture != null && targetHollowSprite != null) {
+                        roadTexture.draw(gc, x, y, tileSize, tileSize);
+                        targetHollowSprite.draw(gc, x, y, tileSize, tileSize);
 
                         double scaleFactor = 0.7;
                         double scaledSize = tileSize * scaleFactor;
                         double offsetX = (tileSize - scaledSize) / 2;
                         double offsetY = (tileSize - scaledSize) / 2;
 
-                        gc.drawImage(targetBaseImage, x + offsetX, y + offsetY, scaledSize, scaledSize);
+                        targetBaseSprite.draw(gc, x + offsetX, y + offsetY, scaledSize, scaledSize);
 
                         gc.save();
                         gc.setGlobalBlendMode(javafx.scene.effect.BlendMode.MULTIPLY);
@@ -0,0 +1,501 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.level.LevelData;
+import com.eliemichel.polyfinite.domain.level.WaveMilestone;
+import com.eliemichel.polyfinite.domain.quests.QuestManager;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
+import com.eliemichel.polyfinite.domain.towers.types.BasicTower;
+import com.eliemichel.polyfinite.domain.towers.types.CannonTower;
+import com.eliemichel.polyfinite.domain.towers.types.FreezingTower;
+import com.eliemichel.polyfinite.domain.towers.types.SniperTower;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+import com.eliemichel.polyfinite.infrastructure.telemetry.FrameMetrics;
+import com.eliemichel.polyfinite.infrastructure.telemetry.GameplayEvent;
+import com.eliemichel.polyfinite.infrastructure.telemetry.TickEvent;
+import com.eliemichel.polyfinite.utils.SimRandom;
+
+import java.util.ArrayList;
+
+/**
+ * The game rules for one level, with no UI attached.
+ * Owns enemies, towers, projectiles, the wave manager and the quest manager,
+ * and advances them with step(). GameplayScreen is a view over this class;
+ * tools can drive it headless.
+ *
+ * Headless here means without the JavaFX toolkit, not without the JavaFX
+ * jars: towers and projectiles still hold their Image and Color fields and
+ * draw methods. They decode nothing until first drawn, so a simulation never
+ * starts the toolkit or reads an image file.
+ */
+public class GameSimulation {
+
+    public enum GameState { PREPARING, PLAYING, PAUSED, VICTORY, DEFEAT }
+
+    public static final int STARTING_LIVES = 20;
+    public static final int STARTING_PAPER_MONEY = 200;
+
+    private final LevelLoader levelLoader;
+    private final int tileSize;
+
+    private final ArrayList<Enemy> enemies;
+    private final ArrayList<Tower> towers;
+    private final ProjectilePool projectilePool;
+    private final WaveManager waveManager;
+    private QuestManager questManager;
+
+    // OPTIMIZATION: Grid of enemies rebuilt once per tick for tower range queries
+    private final EnemyPool enemyPool;
+    private final EnemySpatialIndex enemyIndex;
+
+    private final ArrayList<WaveMilestone> waveMilestones;
+    private final ArrayList<Integer> milestonesReached;
+    private int milestoneStarsEarned;
+    private int lastWaveChecked;
+
+    private GameState gameState;
+    private int lives;
+    private int paperMoney;  // In-level currency
+    private int score;
+    private long tickCount;
+    private boolean levelEnded = false;
+
+    // Every random roll in a run comes from one seed, split per subsystem
+    private final SimRandom rootRandom;
+    private final SimRandom towerRandom;
+    private final SimRandom dropRandom;
+
+    private Runnable onLivesChanged;
+    private Runnable onMoneyChanged;
+    private Runnable onScoreChanged;
+    private Runnable onWaveChanged;
+    private Runnable onGoldDropped;
+    private Runnable onLevelEnded;
+
+    // Receives every successful player command when recording a replay
+    private ReplayLog replayLog;
+
+    // Phase timings for the in-game overlay; null when running headless
+    private FrameMetrics frameMetrics;
+
+    // Expects a loader that has already run loadLevel, findSpawnAndGoal and createEnemyPath
+    public GameSimulation(LevelLoader levelLoader, int tileSize) {
+        this(levelLoader, tileSize, new SimRandom());
+    }
+
+    // Seeded variant: the same seed and the same commands replay the same game
+    public GameSimulation(LevelLoader levelLoader, int tileSize, long seed) {
+        this(levelLoader, tileSize, new SimRandom(seed));
+    }
+
+    private GameSimulation(LevelLoader levelLoader, int tileSize, SimRandom rootRandom) {
+        this.levelLoader = levelLoader;
+        this.tileSize = tileSize;
+        this.enemies = new ArrayList<>();
+        this.towers = new ArrayList<>();
+        this.projectilePool = new ProjectilePool();
+
+        this.gameState = GameState.PREPARING;
+        this.lives = STARTING_LIVES;
+        this.paperMoney = STARTING_PAPER_MONEY;
+        this.score = 0;
+
+        LevelData levelData = levelLoader.getLevelData();
+
+        enemyPool = new EnemyPool(levelLoader.getEnemyPath(), tileSize);
+        enemyIndex = new EnemySpatialIndex(levelData, tileSize);
+        enemyIndex.setPath(levelLoader.getEnemyPath(), tileSize);
+
+        waveManager = new WaveManager(
+                levelData,
+                enemies,
+                enemyPool,
+                levelLoader.getSpawnTile(),
+                levelLoader.getEnemyPath(),
+                tileSize
+        );
+
+        waveMilestones = WaveMilestone.normalize(levelData.getWaveMilestones());
+        milestonesReached = new ArrayList<>();
+        milestoneStarsEarned = 0;
+        lastWaveChecked = 0;
+
+        // Split order is part of the seed contract; append new streams at the end
+        this.rootRandom = rootRandom;
+        waveManager.setRandom(rootRandom.split());
+        this.towerRandom = rootRandom.split();
+        this.dropRandom = rootRandom.split();
+
+        waveManager.setOnSkipBonus(() -> {
+            int bonus = waveManager.getSkipBonusAmount();
+            paperMoney += bonus;
+            fire(onMoneyChanged);
+            GameplayEvent.emit(GameplayEvent.SKIP_BONUS, null, bonus);
+        });
+    }
+
+    // Advances the level by deltaTime seconds
+    public void step(double deltaTime) {
+        if (gameState == GameState.PAUSED || gameState == GameState.VICTORY || gameState == GameState.DEFEAT) {
+            return;
+        }
+
+        tickCount++;
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        long phaseStart = System.nanoTime();
+        int finishedEnemies = enemyPool.update(deltaTime);
+
+        // Only sweep the list when something actually died or reached the goal
+        for (int i = enemies.size() - 1; i >= 0 && finishedEnemies > 0; i--) {
+            Enemy enemy = enemies.get(i);
+
+            if (enemy.hasReachedGoal()) {
+                finishedEnemies--;
+                lives--;
+                enemyPool.release(enemy);
+                enemies.remove(i);
+                fire(onLivesChanged);
+
+                if (lives <= 0 && !levelEnded) {
+                    levelEnded = true;
+                    gameState = GameState.DEFEAT;
+                    fire(onLevelEnded);
+                }
+            }
+            else if (!enemy.isAlive()) {
+                // Find which tower killed this enemy (from last projectile hit)
+                String killerTowerType = enemy.getLastHitByTower();
+
+                paperMoney += enemy.getGoldReward();
+                score += 10;
+
+                // Check for meta-currency gold drop
+                double goldDropChance = levelLoader.getLevelData().getGoldDropChance();
+                if (dropRandom.nextDouble() < goldDropChance) {
+                    GameplayEvent.emit(GameplayEvent.GOLD_DROPPED, null, 1);
+                    fire(onGoldDropped);
+                }
+
+                // Fire quest event
+                if (questManager != null) {
+                    questManager.onEnemyKilled(enemy.getEnemyType(), killerTowerType);
+                }
+
+                finishedEnemies--;
+                enemyPool.release(enemy);
+                enemies.remove(i);
+                fire(onMoneyChanged);
+                fire(onScoreChanged);
+
+                // Update score quest
+                if (questManager != null) {
+                    questManager.onScoreChanged(score);
+                }
+            }
+        }
+        enemyIndex.rebuild(enemies);
+        phaseStart = recordPhase(FrameMetrics.Phase.ENEMY, phaseStart);
+
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).update(deltaTime, enemies, enemyIndex, projectilePool);
+        }
+        phaseStart = recordPhase(FrameMetrics.Phase.TOWER, phaseStart);
+
+        projectilePool.update(deltaTime, enemies, enemyIndex);
+        phaseStart = recordPhase(FrameMetrics.Phase.PROJECTILE, phaseStart);
+
+        waveManager.update(deltaTime);
+        checkWaveMilestones();
+        if (gameState != GameState.DEFEAT && (waveManager.isWaiting() || waveManager.isIdle())) {
+            gameState = GameState.PREPARING;
+        }
+        recordPhase(FrameMetrics.Phase.WAVE, phaseStart);
+
+        // Counts are only gathered when a recording is running and wants this tick
+        if (tickEvent.shouldCommit()) {
+            tickEvent.tick = tickCount;
+            tickEvent.enemies = enemies.size();
+            tickEvent.towers = towers.size();
+            tickEvent.projectiles = projectilePool.getActiveCount();
+            tickEvent.commit();
+        }
+    }
+
+    // Records the time since start under phase and returns the new phase start
+    private long recordPhase(FrameMetrics.Phase phase, long start) {
+        long now = System.nanoTime();
+        if (frameMetrics != null) {
+            frameMetrics.record(phase, now - start);
+        }
+        return now;
+    }
+
+    // ===== Player commands =====
+
+    public static int getTowerCost(String type) {
+        if (type == null) return -1;
+        switch (type) {
+            case "Basic": return 20;
+            case "Cannon": return 60;
+            case "Freezing": return 80;
+            case "Sniper": return 80;
+            default: return -1;
+        }
+    }
+
+    // Places a tower if the tile is free and buildable and the player can afford it; returns null otherwise
+    public Tower buildTower(String type, int row, int col) {
+        int cost = getTowerCost(type);
+        if (cost < 0 || paperMoney < cost) {
+            return null;
+        }
+
+        if (getTowerAt(row, col) != null || levelLoader.getLevelData().getTile(row, col) == null
+                || !levelLoader.getLevelData().getTile(row, col).canPlaceTower()) {
+            return null;
+        }
+
+        Tower tower = createTower(type, row, col);
+        if (tower == null) {
+            return null;
+        }
+
+        tower.setRandom(towerRandom.split());
+        paperMoney -= cost;
+        towers.add(tower);
+        fire(onMoneyChanged);
+        if (replayLog != null) {
+            replayLog.recordBuild(tickCount, type, row, col);
+        }
+        GameplayEvent.emit(GameplayEvent.TOWER_BUILT, type + " at (" + row + ", " + col + ")", cost);
+
+        // Fire quest events for tower built
+        if (questManager != null) {
+            questManager.onTowerBuilt(type, cost);
+        }
+        return tower;
+    }
+
+    public boolean upgradeTower(Tower tower) {
+        if (tower == null || !tower.canUpgrade()) {
+            return false;
+        }
+
+        int upgradeCost = tower.getUpgradeCost();
+        if (paperMoney < upgradeCost) {
+            return false;
+        }
+
+        paperMoney -= upgradeCost;
+        tower.upgrade();
+        fire(onMoneyChanged);
+        if (replayLog != null) {
+            replayLog.recordUpgrade(tickCount, tower.getRow(), tower.getCol());
+        }
+
+        // Fire quest events for tower upgrade
+        if (questManager != null) {
+            questManager.onTowerUpgraded(tower.getQuestTowerType(), tower.getMKLevel(), upgradeCost);
+        }
+        return true;
+    }
+
+    public void setTowerPriority(Tower tower, String priority) {
+        if (tower != null) {
+            tower.setTargetPriority(priority);
+            if (replayLog != null) {
+                replayLog.recordPriority(tickCount, tower.getRow(), tower.getCol(), priority);
+            }
+        }
+    }
+
+    // Starts the first wave, or skips the inter-wave timer for the skip bonus
+    public boolean startWave() {
+        if (!waveManager.canStartWave()) {
+            return false;
+        }
+
+        if (replayLog != null) {
+            replayLog.recordStartWave(tickCount);
+        }
+        waveManager.playerStartWave();
+        gameState = GameState.PLAYING;
+        fire(onWaveChanged);
+        return true;
+    }
+
+    public void togglePause() {
+        if (gameState == GameState.PLAYING) {
+            gameState = GameState.PAUSED;
+        } else if (gameState == GameState.PAUSED) {
+            gameState = GameState.PLAYING;
+        }
+    }
+
+    public Tower getTowerAt(int row, int col) {
+        for (int i = 0; i < towers.size(); i++) {
+            Tower tower = towers.get(i);
+            if (tower.getRow() == row && tower.getCol() == col) {
+                return tower;
+            }
+        }
+        return null;
+    }
+
+    private Tower createTower(String type, int row, int col) {
+        switch (type) {
+            case "Basic": return new BasicTower(row, col, tileSize);
+            case "Sniper": return new SniperTower(row, col, tileSize);
+            case "Cannon": return new CannonTower(row, col, tileSize);
+            case "Freezing": return new FreezingTower(row, col, tileSize);
+            default: return null;
+        }
+    }
+
+    private void checkWaveMilestones() {
+        int currentWave = waveManager.getCurrentWave();
+        if (currentWave <= lastWaveChecked) {
+            return;
+        }
+
+        lastWaveChecked = currentWave;
+
+        for (WaveMilestone milestone : waveMilestones) {
+            if (milestone.isReached(currentWave) && !milestonesReached.contains(milestone.getWave())) {
+                milestonesReached.add(milestone.getWave());
+                milestoneStarsEarned = Math.min(3, milestoneStarsEarned + milestone.getStarsReward());
+                GameplayEvent.emit(GameplayEvent.MILESTONE_REACHED, "Wave " + milestone.getWave(),
+                        milestone.getStarsReward());
+            }
+        }
+
+        fire(onWaveChanged);
+    }
+
+    private static void fire(Runnable callback) {
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    // ===== Callbacks =====
+
+    public void setOnLivesChanged(Runnable callback) {
+        this.onLivesChanged = callback;
+    }
+
+    public void setOnMoneyChanged(Runnable callback) {
+        this.onMoneyChanged = callback;
+    }
+
+    public void setOnScoreChanged(Runnable callback) {
+        this.onScoreChanged = callback;
+    }
+
+    public void setOnWaveChanged(Runnable callback) {
+        this.onWaveChanged = callback;
+    }
+
+    // Fired when a killed enemy drops one meta-currency gold
+    public void setOnGoldDropped(Runnable callback) {
+        this.onGoldDropped = callback;
+    }
+
+    public void setOnLevelEnded(Runnable callback) {
+        this.onLevelEnded = callback;
+    }
+
+    public void setReplayLog(ReplayLog replayLog) {
+        this.replayLog = replayLog;
+    }
+
+    public void setFrameMetrics(FrameMetrics frameMetrics) {
+        this.frameMetrics = frameMetrics;
+    }
+
+    public void setQuestManager(QuestManager questManager) {
+        this.questManager = questManager;
+    }
+
+    // ===== Getters =====
+
+    public LevelData getLevelData() {
+        return levelLoader.getLevelData();
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public ArrayList<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public ArrayList<Tower> getTowers() {
+        return towers;
+    }
+
+    public ProjectilePool getProjectilePool() {
+        return projectilePool;
+    }
+
+    public WaveManager getWaveManager() {
+        return waveManager;
+    }
+
+    public ReplayLog getReplayLog() {
+        return replayLog;
+    }
+
+    public QuestManager getQuestManager() {
+        return questManager;
+    }
+
+    public EnemyPool getEnemyPool() {
+        return enemyPool;
+    }
+
+    public EnemySpatialIndex getEnemyIndex() {
+        return enemyIndex;
+    }
+
+    public ArrayList<WaveMilestone> getWaveMilestones() {
+        return waveMilestones;
+    }
+
+    public int getMilestoneStarsEarned() {
+        return milestoneStarsEarned;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getPaperMoney() {
+        return paperMoney;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getSeed() {
+        return rootRandom.getSeed();
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isLevelEnded() {
+        return levelEnded;
+    }
+}
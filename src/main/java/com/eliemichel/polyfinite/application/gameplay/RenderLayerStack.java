@@ -0,0 +1,71 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * The gameplay view as a stack of same-sized canvases, bottom to top in
+ * {@link Layer} order. JavaFX keeps each canvas's pixels between frames, so a
+ * layer is only cleared and redrawn when it is marked dirty; a frame where
+ * only enemies move touches the ENTITIES canvas alone.
+ */
+public class RenderLayerStack {
+
+    public enum Layer {
+        TERRAIN,     // tiles, redrawn when the level changes
+        TOWERS,      // tower bodies, redrawn on build, upgrade or turning
+        ENTITIES,    // enemies, projectiles and tower effects, redrawn every frame
+        HIGHLIGHTS   // selection and range overlays, redrawn when the selection changes
+    }
+
+    private final Canvas[] canvases;
+    private final boolean[] dirty;
+
+    public RenderLayerStack(double width, double height) {
+        Layer[] layers = Layer.values();
+        canvases = new Canvas[layers.length];
+        dirty = new boolean[layers.length];
+
+        for (int i = 0; i < layers.length; i++) {
+            canvases[i] = new Canvas(width, height);
+            // Clicks are handled by the screen, in tile coordinates
+            canvases[i].setMouseTransparent(true);
+            dirty[i] = true;
+        }
+    }
+
+    // Bottom layer first, ready to add to the camera's group
+    public Canvas[] getCanvases() {
+        return canvases;
+    }
+
+    public boolean isDirty(Layer layer) {
+        return dirty[layer.ordinal()];
+    }
+
+    public void markDirty(Layer layer) {
+        dirty[layer.ordinal()] = true;
+    }
+
+    public void markAllDirty() {
+        for (int i = 0; i < dirty.length; i++) {
+            dirty[i] = true;
+        }
+    }
+
+    /** Clears the layer for a full redraw and marks it clean. */
+    public GraphicsContext beginLayer(Layer layer) {
+        Canvas canvas = canvases[layer.ordinal()];
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setImageSmoothing(false);
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        dirty[layer.ordinal()] = false;
+        return gc;
+    }
+
+    public double getOutputScale() {
+        Canvas canvas = canvases[0];
+        if (canvas.getScene() == null || canvas.getScene().getWindow() == null) return 1;
+        return canvas.getScene().getWindow().getOutputScaleX();
+    }
+}
@@ -0,0 +1,310 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact binary record of one level session: the header holds everything
+ * GameSimulation needs to start identically (level, seed, research levels),
+ * followed by the player's commands stamped with the simulation tick they
+ * happened on. Replaying the commands on a fresh simulation reproduces the game.
+ *
+ * Layout: magic, version, level, tile size, seed, research table, then events
+ * as (tick delta varint, opcode, payload), closed by an END event with the
+ * final wave, lives and score so playback can verify itself.
+ */
+public class ReplayLog {
+
+    private static final int MAGIC = 0x50465250;  // "PFRP"
+    private static final byte VERSION = 1;
+
+    public static final byte OP_BUILD = 1;
+    public static final byte OP_UPGRADE = 2;
+    public static final byte OP_PRIORITY = 3;
+    public static final byte OP_START_WAVE = 4;
+    public static final byte OP_END = 5;
+
+    // Index in these tables is the byte written to the log, so only append
+    private static final String[] TOWER_TYPES = {"Basic", "Cannon", "Freezing", "Sniper"};
+    private static final String[] PRIORITIES = {"First", "Last", "Closest", "Strongest"};
+
+    /** One recorded player command. Unused fields are -1 / null. */
+    public static class Event {
+        public final long tick;
+        public final byte op;
+        public final String towerType;
+        public final int row;
+        public final int col;
+        public final String priority;
+
+        Event(long tick, byte op, String towerType, int row, int col, String priority) {
+            this.tick = tick;
+            this.op = op;
+            this.towerType = towerType;
+            this.row = row;
+            this.col = col;
+            this.priority = priority;
+        }
+    }
+
+    private final int levelNumber;
+    private final int tileSize;
+    private final long seed;
+    private final Map<String, Integer> researchLevels;
+    private final ArrayList<Event> events = new ArrayList<>();
+
+    private boolean finished = false;
+    private long endTick;
+    private int finalWave;
+    private int finalLives;
+    private int finalScore;
+
+    public ReplayLog(int levelNumber, int tileSize, long seed, Map<String, Integer> researchLevels) {
+        this.levelNumber = levelNumber;
+        this.tileSize = tileSize;
+        this.seed = seed;
+        this.researchLevels = new TreeMap<>(researchLevels);
+    }
+
+    // ===== Recording (called by GameSimulation) =====
+
+    void recordBuild(long tick, String towerType, int row, int col) {
+        events.add(new Event(tick, OP_BUILD, towerType, row, col, null));
+    }
+
+    void recordUpgrade(long tick, int row, int col) {
+        events.add(new Event(tick, OP_UPGRADE, null, row, col, null));
+    }
+
+    void recordPriority(long tick, int row, int col, String priority) {
+        events.add(new Event(tick, OP_PRIORITY, null, row, col, priority));
+    }
+
+    void recordStartWave(long tick) {
+        events.add(new Event(tick, OP_START_WAVE, null, -1, -1, null));
+    }
+
+    // Closes the log with the outcome, which playback compares against
+    public void finish(GameSimulation simulation) {
+        finished = true;
+        endTick = simulation.getTickCount();
+        finalWave = simulation.getWaveManager().getCurrentWave();
+        finalLives = simulation.getLives();
+        finalScore = simulation.getScore();
+    }
+
+    // ===== Serialization =====
+
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    public static ReplayLog load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeVarLong(out, levelNumber);
+        writeVarLong(out, tileSize);
+        out.writeLong(seed);
+
+        writeVarLong(out, researchLevels.size());
+        for (Map.Entry<String, Integer> entry : researchLevels.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeVarLong(out, entry.getValue());
+        }
+
+        long lastTick = 0;
+        for (Event event : events) {
+            writeVarLong(out, event.tick - lastTick);
+            lastTick = event.tick;
+            out.writeByte(event.op);
+
+            switch (event.op) {
+                case OP_BUILD:
+                    out.writeByte(indexOf(TOWER_TYPES, event.towerType));
+                    writeVarLong(out, event.row);
+                    writeVarLong(out, event.col);
+                    break;
+                case OP_UPGRADE:
+                    writeVarLong(out, event.row);
+                    writeVarLong(out, event.col);
+                    break;
+                case OP_PRIORITY:
+                    writeVarLong(out, event.row);
+                    writeVarLong(out, event.col);
+                    out.writeByte(indexOf(PRIORITIES, event.priority));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (finished) {
+            writeVarLong(out, endTick - lastTick);
+            out.writeByte(OP_END);
+            writeVarLong(out, finalWave);
+            writeVarLong(out, finalLives);
+            writeVarLong(out, finalScore);
+        }
+        out.flush();
+    }
+
+    public static ReplayLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+
+        int levelNumber = (int) readVarLong(in);
+        int tileSize = (int) readVarLong(in);
+        long seed = in.readLong();
+
+        Map<String, Integer> research = new TreeMap<>();
+        int researchCount = (int) readVarLong(in);
+        for (int i = 0; i < researchCount; i++) {
+            research.put(in.readUTF(), (int) readVarLong(in));
+        }
+
+        ReplayLog log = new ReplayLog(levelNumber, tileSize, seed, research);
+
+        long tick = 0;
+        while (true) {
+            long delta;
+            try {
+                delta = readVarLong(in);
+            } catch (EOFException e) {
+                break;  // Log of a session that never finished
+            }
+            tick += delta;
+            byte op = in.readByte();
+
+            switch (op) {
+                case OP_BUILD: {
+                    String type = TOWER_TYPES[in.readByte()];
+                    int row = (int) readVarLong(in);
+                    int col = (int) readVarLong(in);
+                    log.recordBuild(tick, type, row, col);
+                    break;
+                }
+                case OP_UPGRADE:
+                    log.recordUpgrade(tick, (int) readVarLong(in), (int) readVarLong(in));
+                    break;
+                case OP_PRIORITY: {
+                    int row = (int) readVarLong(in);
+                    int col = (int) readVarLong(in);
+                    log.recordPriority(tick, row, col, PRIORITIES[in.readByte()]);
+                    break;
+                }
+                case OP_START_WAVE:
+                    log.recordStartWave(tick);
+                    break;
+                case OP_END:
+                    log.finished = true;
+                    log.endTick = tick;
+                    log.finalWave = (int) readVarLong(in);
+                    log.finalLives = (int) readVarLong(in);
+                    log.finalScore = (int) readVarLong(in);
+                    return log;
+                default:
+                    throw new IOException("Unknown replay opcode " + op + " at tick " + tick);
+            }
+        }
+        return log;
+    }
+
+    private static int indexOf(String[] table, String value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(value)) return i;
+        }
+        throw new IllegalArgumentException("Cannot record '" + value + "' in a replay");
+    }
+
+    // OPTIMIZATION: Most deltas and grid coordinates fit in one byte
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+            shift += 7;
+            if (shift > 63) throw new IOException("Malformed replay varint");
+        }
+    }
+
+    // ===== Getters =====
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Map<String, Integer> getResearchLevels() {
+        return researchLevels;
+    }
+
+    public ArrayList<Event> getEvents() {
+        return events;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public int getFinalWave() {
+        return finalWave;
+    }
+
+    public int getFinalLives() {
+        return finalLives;
+    }
+
+    public int getFinalScore() {
+        return finalScore;
+    }
+}
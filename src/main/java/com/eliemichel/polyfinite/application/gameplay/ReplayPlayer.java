@@ -0,0 +1,153 @@
+package com.eliemichel.polyfinite.application.gameplay;
+
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-executes a ReplayLog headless, as fast as the simulation can step,
+ * and prints per-wave simulation timings. Useful for reproducing late-wave
+ * slowdowns from a real session without playing it again.
+ *
+ * Usage: ReplayPlayer <replay file>
+ * Run from the project root so LevelLoader finds level_N.txt.
+ */
+public class ReplayPlayer {
+
+    private final ReplayLog log;
+
+    // Per-wave timings, index = wave number
+    private final List<WaveTiming> waveTimings = new ArrayList<>();
+
+    private static class WaveTiming {
+        long ticks;
+        long totalNanos;
+        long maxTickNanos;
+        int peakEnemies;
+    }
+
+    public ReplayPlayer(ReplayLog log) {
+        this.log = log;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: ReplayPlayer <replay file>");
+            return;
+        }
+
+        ReplayLog log = ReplayLog.load(Path.of(args[0]));
+        System.out.println("Replay: level " + log.getLevelNumber() + ", seed " + log.getSeed()
+                + ", " + log.getEvents().size() + " commands"
+                + (log.isFinished() ? ", " + log.getEndTick() + " ticks" : ", unfinished"));
+
+        ReplayPlayer player = new ReplayPlayer(log);
+        long start = System.nanoTime();
+        GameSimulation simulation = player.play();
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        player.printReport(simulation, elapsed);
+    }
+
+    // Builds a simulation in the same starting state as the recorded session
+    public static GameSimulation createSimulation(ReplayLog log) {
+        ResearchManager.getInstance().applyLevelsSnapshot(log.getResearchLevels());
+
+        LevelLoader levelLoader = new LevelLoader();
+        levelLoader.loadLevel(log.getLevelNumber());
+        levelLoader.findSpawnAndGoal();
+        levelLoader.createEnemyPath();
+        return new GameSimulation(levelLoader, log.getTileSize(), log.getSeed());
+    }
+
+    public static void apply(GameSimulation simulation, ReplayLog.Event event) {
+        switch (event.op) {
+            case ReplayLog.OP_BUILD:
+                simulation.buildTower(event.towerType, event.row, event.col);
+                break;
+            case ReplayLog.OP_UPGRADE:
+                simulation.upgradeTower(simulation.getTowerAt(event.row, event.col));
+                break;
+            case ReplayLog.OP_PRIORITY:
+                simulation.setTowerPriority(simulation.getTowerAt(event.row, event.col), event.priority);
+                break;
+            case ReplayLog.OP_START_WAVE:
+                simulation.startWave();
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Commands recorded at tick T were issued after step T, so they run before the next step
+    public GameSimulation play() {
+        GameSimulation simulation = createSimulation(log);
+        ArrayList<ReplayLog.Event> events = log.getEvents();
+
+        long lastTick = log.isFinished() ? log.getEndTick()
+                : (events.isEmpty() ? 0 : events.get(events.size() - 1).tick);
+
+        int nextEvent = 0;
+        while (simulation.getTickCount() < lastTick && !simulation.isLevelEnded()) {
+            while (nextEvent < events.size() && events.get(nextEvent).tick <= simulation.getTickCount()) {
+                apply(simulation, events.get(nextEvent++));
+            }
+
+            int wave = simulation.getWaveManager().getCurrentWave();
+            long tickStart = System.nanoTime();
+            simulation.step(FixedStepClock.STEP);
+            long tickNanos = System.nanoTime() - tickStart;
+
+            WaveTiming timing = timingFor(wave);
+            timing.ticks++;
+            timing.totalNanos += tickNanos;
+            timing.maxTickNanos = Math.max(timing.maxTickNanos, tickNanos);
+            timing.peakEnemies = Math.max(timing.peakEnemies, simulation.getEnemies().size());
+        }
+
+        // Commands issued on the final tick (e.g. an upgrade right before the end screen)
+        while (nextEvent < events.size()) {
+            apply(simulation, events.get(nextEvent++));
+        }
+        return simulation;
+    }
+
+    private WaveTiming timingFor(int wave) {
+        while (waveTimings.size() <= wave) {
+            waveTimings.add(new WaveTiming());
+        }
+        return waveTimings.get(wave);
+    }
+
+    private void printReport(GameSimulation simulation, double elapsedSeconds) {
+        System.out.println();
+        System.out.println("=== REPLAY TIMINGS ===");
+        System.out.println(String.format("%5s %8s %10s %12s %12s %8s", "wave", "ticks", "total ms", "avg us/tick", "max us/tick", "enemies"));
+        for (int wave = 0; wave < waveTimings.size(); wave++) {
+            WaveTiming timing = waveTimings.get(wave);
+            if (timing.ticks == 0) continue;
+            System.out.println(String.format("%5d %8d %10.1f %12.1f %12.1f %8d",
+                    wave, timing.ticks, timing.totalNanos / 1_000_000.0,
+                    timing.totalNanos / 1000.0 / timing.ticks, timing.maxTickNanos / 1000.0,
+                    timing.peakEnemies));
+        }
+
+        double simulatedSeconds = simulation.getTickCount() / FixedStepClock.STEPS_PER_SECOND;
+        System.out.println(String.format("Replayed %.0fs of play in %.2fs (%.0fx real time)",
+                simulatedSeconds, elapsedSeconds, simulatedSeconds / elapsedSeconds));
+
+        int wave = simulation.getWaveManager().getCurrentWave();
+        System.out.println("Result: wave " + wave + ", lives " + simulation.getLives() + ", score " + simulation.getScore());
+        if (log.isFinished()) {
+            boolean match = wave == log.getFinalWave()
+                    && simulation.getLives() == log.getFinalLives()
+                    && simulation.getScore() == log.getFinalScore();
+            System.out.println(match ? "Outcome matches the recording"
+                    : "OUTCOME MISMATCH: recorded wave " + log.getFinalWave() + ", lives " + log.getFinalLives()
+                    + ", score " + log.getFinalScore());
+        }
+        System.out.println("======================");
+    }
+}
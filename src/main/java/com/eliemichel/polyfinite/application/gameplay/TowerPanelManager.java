@@ -1,9 +1,5 @@
 package com.eliemichel.polyfinite.application.gameplay;
 
-import com.eliemichel.polyfinite.domain.quests.QuestManager;
-import com.eliemichel.polyfinite.domain.towers.types.BasicTower;
-import com.eliemichel.polyfinite.domain.towers.types.SniperTower;
-import com.eliemichel.polyfinite.domain.towers.types.CannonTower;
 import com.eliemichel.polyfinite.domain.towers.types.FreezingTower;
 import com.eliemichel.polyfinite.domain.towers.types.Tower;
 import javafx.geometry.Insets;
@@ -12,8 +8,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
 
-import java.util.ArrayList;
-
 public class TowerPanelManager {
 
     private VBox towerSelectionPanel;
@@ -23,36 +17,21 @@ public class TowerPanelManager {
     private int selectedTileCol;
     private String towerTypeToPlace;
     private String selectedTowerType;
-    private int gold;
-    private ArrayList<Tower> towers;
-    private int tileSize;
-    private QuestManager questManager;
 
-    private Runnable onGoldUpdate;
+    // Gold, tower placement and upgrades all go through the simulation
+    private GameSimulation simulation;
+
     private Runnable onPanelHide;
 
-    public TowerPanelManager(VBox towerSelectionPanel, ArrayList<Tower> towers, int tileSize) {
+    public TowerPanelManager(VBox towerSelectionPanel, GameSimulation simulation) {
         this.towerSelectionPanel = towerSelectionPanel;
-        this.towers = towers;
-        this.tileSize = tileSize;
-    }
-
-    public void setOnGoldUpdate(Runnable callback) {
-        this.onGoldUpdate = callback;
+        this.simulation = simulation;
     }
 
     public void setOnPanelHide(Runnable callback) {
         this.onPanelHide = callback;
     }
 
-    public void setQuestManager(QuestManager questManager) {
-        this.questManager = questManager;
-    }
-
-    public void setGold(int gold) {
-        this.gold = gold;
-    }
-
     public void setSelectedTile(int row, int col) {
         this.selectedTileRow = row;
         this.selectedTileCol = col;
@@ -116,10 +95,10 @@ public class TowerPanelManager {
         towerSelectionPanel.getChildren().addAll(titleLabel, tileLabel, new Label(""));
 
         // All four tower types
-        VBox basicTowerBox = createTowerButton("Basic Tower", 20, "Basic");
-        VBox cannonTowerBox = createTowerButton("Cannon Tower", 60, "Cannon");
-        VBox freezingTowerBox = createTowerButton("Freezing Tower", 80, "Freezing");
-        VBox sniperTowerBox = createTowerButton("Sniper Tower", 80, "Sniper");
+        VBox basicTowerBox = createTowerButton("Basic Tower", GameSimulation.getTowerCost("Basic"), "Basic");
+        VBox cannonTowerBox = createTowerButton("Cannon Tower", GameSimulation.getTowerCost("Cannon"), "Cannon");
+        VBox freezingTowerBox = createTowerButton("Freezing Tower", GameSimulation.getTowerCost("Freezing"), "Freezing");
+        VBox sniperTowerBox = createTowerButton("Sniper Tower", GameSimulation.getTowerCost("Sniper"), "Sniper");
 
         towerSelectionPanel.getChildren().addAll(basicTowerBox, cannonTowerBox, freezingTowerBox, sniperTowerBox);
     }
@@ -194,7 +173,7 @@ public class TowerPanelManager {
             upgradeButton.setPrefHeight(40);
 
             int upgradeCost = selectedTower.getUpgradeCost();
-            boolean canAfford = gold >= upgradeCost;
+            boolean canAfford = simulation.getPaperMoney() >= upgradeCost;
 
             if (canAfford) {
                 upgradeButton.setStyle("-fx-font-size: 14px; -fx-font-weight: bold; " +
@@ -209,19 +188,7 @@ public class TowerPanelManager {
                     (canAfford ? "white" : "#FF6B6B") + ";");
 
             upgradeButton.setOnAction(e -> {
-                if (gold >= upgradeCost) {
-                    gold -= upgradeCost;
-                    selectedTower.upgrade();
-                    if (onGoldUpdate != null) {
-                        onGoldUpdate.run();
-                    }
-                    
-                    // Fire quest events for tower upgrade
-                    if (questManager != null) {
-                        String towerType = selectedTower.getTowerName().replace(" Tower", "");
-                        questManager.onTowerUpgraded(towerType, selectedTower.getMKLevel(), upgradeCost);
-                    }
-                    
+                if (simulation.upgradeTower(selectedTower)) {
                     updatePanel();
                 }
             });
@@ -243,10 +210,10 @@ public class TowerPanelManager {
             HBox priorityBox = new HBox(8);
             priorityBox.setAlignment(Pos.CENTER);
 
-            String[] priorities = {"First", "Closest", "Strongest"};
+            String[] priorities = {"First", "Last", "Closest", "Strongest"};
             for (String priority : priorities) {
                 Button priorityButton = new Button(priority);
-                priorityButton.setPrefWidth(80);
+                priorityButton.setPrefWidth(58);
 
                 if (selectedTower.getTargetPriority().equals(priority)) {
                     priorityButton.setStyle("-fx-background-color: #00E5FF; -fx-text-fill: black; " +
@@ -257,7 +224,7 @@ public class TowerPanelManager {
                 }
 
                 priorityButton.setOnAction(e -> {
-                    selectedTower.setTargetPriority(priority);
+                    simulation.setTowerPriority(selectedTower, priority);
                     updatePanel();
                 });
 
@@ -288,7 +255,7 @@ public class TowerPanelManager {
         towerBox.setAlignment(Pos.CENTER);
 
         boolean isSelected = type.equals(towerTypeToPlace);
-        boolean canAfford = gold >= cost;
+        boolean canAfford = simulation.getPaperMoney() >= cost;
 
         if (isSelected && selectedTowerType != null && selectedTowerType.equals("preview")) {
             towerBox.setStyle("-fx-background-color: #FFD700; -fx-background-radius: 5; " +
@@ -329,37 +296,13 @@ public class TowerPanelManager {
         } else if (selectedTowerType.equals("preview")) {
             selectedTowerType = "confirmed";
 
-            if (gold >= cost) {
-                gold -= cost;
-                if (onGoldUpdate != null) {
-                    onGoldUpdate.run();
-                }
-
-                Tower tower = null;
-                if (type.equals("Basic")) {
-                    tower = new BasicTower(selectedTileRow, selectedTileCol, tileSize);
-                } else if (type.equals("Sniper")) {
-                    tower = new SniperTower(selectedTileRow, selectedTileCol, tileSize);
-                } else if (type.equals("Cannon")) {
-                    tower = new CannonTower(selectedTileRow, selectedTileCol, tileSize);
-                } else if (type.equals("Freezing")) {
-                    tower = new FreezingTower(selectedTileRow, selectedTileCol, tileSize);
-                }
-
-                if (tower != null) {
-                    towers.add(tower);
-                    System.out.println("Tower placed at (" + selectedTileRow + ", " + selectedTileCol + ")");
-                    
-                    // Fire quest events for tower built
-                    if (questManager != null) {
-                        questManager.onTowerBuilt(type, cost);
-                    }
-                }
+            if (simulation.getPaperMoney() >= cost) {
+                simulation.buildTower(type, selectedTileRow, selectedTileCol);
 
                 hidePanel();
                 resetSelection();
             } else {
-                System.out.println("Not enough gold! Need " + cost + ", have " + gold);
+                System.out.println("Not enough gold! Need " + cost + ", have " + simulation.getPaperMoney());
             }
         }
     }
@@ -375,8 +318,4 @@ public class TowerPanelManager {
     public String getTowerTypeToPlace() {
         return towerTypeToPlace;
     }
-
-    public int getGold() {
-        return gold;
-    }
 }
\ No newline at end of file
@@ -90,7 +90,7 @@ public class UIBuilder {
         return topBar;
     }
 
-    public static HBox createBottomBar(Button startWaveButton, Runnable onStartWave, Runnable onSpeedToggle) {
+    public static HBox createBottomBar(Button startWaveButton, Button speedBtn, Runnable onStartWave, Runnable onSpeedToggle) {
         HBox bottomBar = new HBox(15);
         bottomBar.setPadding(new Insets(15));
         bottomBar.setAlignment(Pos.CENTER_LEFT);
@@ -122,7 +122,7 @@ public class UIBuilder {
             }
         });
 
-        Button speedBtn = new Button("⏩ 2x Speed");
+        speedBtn.setText("⏩ 1x Speed");
         speedBtn.setPrefHeight(50);
         speedBtn.setPrefWidth(150);
         speedBtn.setStyle("-fx-font-size: 16px; -fx-font-weight: bold; " +
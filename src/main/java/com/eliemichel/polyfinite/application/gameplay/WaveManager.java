@@ -1,15 +1,17 @@
 package com.eliemichel.polyfinite.application.gameplay;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemyPool;
 import com.eliemichel.polyfinite.domain.enemies.EnemyWeight;
 import com.eliemichel.polyfinite.domain.level.LevelData;
 import com.eliemichel.polyfinite.domain.level.SpawnDensity;
 import com.eliemichel.polyfinite.domain.enemies.types.Fast;
 import com.eliemichel.polyfinite.domain.enemies.types.Regular;
 import com.eliemichel.polyfinite.domain.enemies.types.Strong;
+import com.eliemichel.polyfinite.infrastructure.telemetry.WaveSpawnEvent;
+import com.eliemichel.polyfinite.utils.SimRandom;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 public class WaveManager {
 
@@ -22,6 +24,7 @@ public class WaveManager {
 
     private LevelData levelData;
     private ArrayList<Enemy> enemies;
+    private EnemyPool enemyPool;
     private int[] spawnTile;
     private ArrayList<int[]> enemyPath;
     private int tileSize;
@@ -34,15 +37,19 @@ public class WaveManager {
     private double interWaveTimer;
     private double interWaveTimeMax;
 
-    private Random random;
+    private SimRandom random;
+
+    // Open from startNextWave until the last enemy of the wave has spawned
+    private WaveSpawnEvent spawnEvent;
 
     // Callback for bonus gold when skipping timer
     private Runnable onSkipBonus;
 
-    public WaveManager(LevelData levelData, ArrayList<Enemy> enemies, int[] spawnTile, 
+    public WaveManager(LevelData levelData, ArrayList<Enemy> enemies, EnemyPool enemyPool, int[] spawnTile,
                        ArrayList<int[]> enemyPath, int tileSize) {
         this.levelData = levelData;
         this.enemies = enemies;
+        this.enemyPool = enemyPool;
         this.spawnTile = spawnTile;
         this.enemyPath = enemyPath;
         this.tileSize = tileSize;
@@ -55,7 +62,12 @@ public class WaveManager {
         this.interWaveTimer = 0;
         this.interWaveTimeMax = levelData.getInterWaveTime();
 
-        this.random = new Random();
+        this.random = new SimRandom();
+    }
+
+    // Drives enemy-type rolls and lane offsets; GameSimulation passes a stream of its run seed
+    public void setRandom(SimRandom random) {
+        this.random = random;
     }
 
     public void setOnSkipBonus(Runnable callback) {
@@ -99,7 +111,7 @@ public class WaveManager {
         // Check if done spawning
         if (enemiesSpawnedThisWave >= enemiesToSpawnThisWave) {
             state = WaveState.PLAYING;
-            System.out.println("Wave " + currentWave + " finished spawning. Waiting for enemies to die.");
+            commitSpawnEvent();
         }
     }
 
@@ -114,7 +126,6 @@ public class WaveManager {
     private void startInterWaveTimer() {
         state = WaveState.WAITING;
         interWaveTimer = interWaveTimeMax;
-        System.out.println("Inter-wave timer started: " + interWaveTimeMax + " seconds");
     }
 
     public void startNextWave() {
@@ -126,7 +137,18 @@ public class WaveManager {
         enemiesToSpawnThisWave = calculateEnemyCount(currentWave);
 
         state = WaveState.SPAWNING;
-        System.out.println("Starting wave " + currentWave + " with " + enemiesToSpawnThisWave + " enemies");
+
+        spawnEvent = new WaveSpawnEvent();
+        spawnEvent.begin();
+        spawnEvent.wave = currentWave;
+        spawnEvent.enemiesToSpawn = enemiesToSpawnThisWave;
+        spawnEvent.enemiesAliveAtStart = enemies.size();
+    }
+
+    private void commitSpawnEvent() {
+        if (spawnEvent == null) return;
+        spawnEvent.commit();
+        spawnEvent = null;
     }
 
     // Called when player clicks start button
@@ -135,8 +157,6 @@ public class WaveManager {
             startNextWave();
         } else if (state == WaveState.WAITING) {
             // Player skipped the timer - give bonus
-            int bonusGold = calculateSkipBonus();
-            System.out.println("Player skipped timer! Bonus gold: " + bonusGold);
             if (onSkipBonus != null) {
                 onSkipBonus.run();
             }
@@ -175,8 +195,8 @@ public class WaveManager {
     }
 
     private void spawnEnemy() {
+        // LevelLoader already reports a level without a spawn tile
         if (spawnTile == null) {
-            System.out.println("Cannot spawn enemy - no spawn tile!");
             return;
         }
 
@@ -189,7 +209,9 @@ public class WaveManager {
             int scaledHealth = calculateEnemyHealth(enemy.getMaxHealth());
             enemy.initialize(scaledHealth);
 
+            enemy.randomizeLaneOffset(random);
             enemy.setPath(enemyPath);
+            enemyPool.attach(enemy);
             enemies.add(enemy);
         }
     }
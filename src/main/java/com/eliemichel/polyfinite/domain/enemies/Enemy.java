@@ -1,31 +1,31 @@
 package com.eliemichel.polyfinite.domain.enemies;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.eliemichel.polyfinite.utils.SimRandom;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
 
+/**
+ * An enemy on the map. While attached to an EnemyPool this is a thin view:
+ * the hot state (position, health, slow, path index) lives in the pool's arrays
+ * and the fields below only hold it before attach and after release.
+ */
 public abstract class Enemy {
 
-    // OPTIMIZATION: Static sprite cache shared by ALL enemies
-    private static final Map<String, Image> SPRITE_CACHE = new HashMap<>();
-
     protected double x;
     protected double y;
     protected int health;
     protected int maxHealth;
-    protected double speed;
+    protected double speed;  // Pixels per second
     protected boolean alive;
     protected boolean reachedGoal;
     protected int pathIndex;
     protected ArrayList<int[]> path;
     protected int tileSize;
     protected int goldReward;
-    protected Image sprite;  // Reference to cached sprite
+    protected Image sprite;  // Shared image from the SpriteRegistry
+    private String spriteId;  // Resolved into sprite on first draw
     protected String enemyType;
     protected double sizeScale = 0.5;
 
@@ -35,27 +35,15 @@ public abstract class Enemy {
     protected double slowPercent;
     protected boolean inFreezingRange;
 
-    protected static final Random random = new Random();
-
-    private double targetX;
-    private double targetY;
-    private boolean needsRecalculation = true;
+    // Backing storage while attached, null when detached
+    EnemyPool pool;
+    int slot = -1;
 
     private double renderSize;
-    private double renderHalfSize;
-    private double healthBarY;
     
     // Track which tower type dealt the killing blow
     private String lastHitByTower = null;
 
-    private static final Color FROZEN_COLOR = Color.rgb(150, 220, 255);
-    private static final Color NORMAL_COLOR = Color.rgb(0, 230, 118);
-    private static final Color FROZEN_OVERLAY = Color.rgb(150, 220, 255, 0.3);
-    private static final Color HEALTH_BG_COLOR = Color.rgb(50, 50, 50);
-    private static final Color HEALTH_COLOR = Color.rgb(0, 230, 118);
-    private static final Color FREEZE_STROKE_COLOR = Color.rgb(150, 220, 255, 0.6);
-    private static final Color FREEZE_PARTICLE_COLOR = Color.rgb(200, 240, 255, 0.8);
-
     public Enemy(int startRow, int startCol, int tileSize) {
         this.tileSize = tileSize;
         this.alive = true;
@@ -68,33 +56,29 @@ public abstract class Enemy {
         this.x = startCol * tileSize + tileSize / 2;
         this.y = startRow * tileSize + tileSize / 2;
 
-        this.laneOffset = (random.nextDouble() - 0.5) * tileSize * 0.7;
+        this.laneOffset = 0;  // Picked by randomizeLaneOffset() when spawned
         this.currentAngle = 0;
 
         this.renderSize = tileSize * sizeScale;
-        this.renderHalfSize = renderSize / 2;
-        this.healthBarY = -renderHalfSize - 8;
     }
 
-    // OPTIMIZATION: Load sprite from cache or create once and cache it
-    protected void loadSprite(String spritePath) {
-        // Check if sprite is already cached
-        if (SPRITE_CACHE.containsKey(spritePath)) {
-            this.sprite = SPRITE_CACHE.get(spritePath);
-            System.out.println("Using cached sprite: " + spritePath);
-            return;
-        }
+    // OPTIMIZATION: Only remember the sprite id here; simulations that never draw never decode images
+    protected void loadSprite(String spriteId) {
+        this.spriteId = spriteId;
+    }
 
-        // Load sprite and cache it
-        try {
-            Image newSprite = new Image(getClass().getResourceAsStream(spritePath));
-            SPRITE_CACHE.put(spritePath, newSprite);
-            this.sprite = newSprite;
-            System.out.println("Loaded and cached sprite: " + spritePath);
-        } catch (Exception e) {
-            System.out.println("Error loading enemy sprite: " + e.getMessage());
-            this.sprite = null;
+    // All enemies of a type share the SpriteRegistry's image; null if it could not be loaded
+    public Image getSprite() {
+        if (spriteId != null) {
+            this.sprite = SpriteRegistry.getInstance().get(spriteId);
+            this.spriteId = null;
         }
+        return sprite;
+    }
+
+    // Spreads enemies across the path width; call before attaching to a pool
+    public void randomizeLaneOffset(SimRandom random) {
+        this.laneOffset = (random.nextDouble() - 0.5) * tileSize * 0.7;
     }
 
     public void setPath(ArrayList<int[]> path) {
@@ -105,166 +89,61 @@ public abstract class Enemy {
             int[] second = path.get(1);
             double dx = second[1] - first[1];
             double dy = second[0] - first[0];
-            this.currentAngle = Math.toDegrees(Math.atan2(dy, dx));
-        }
-    }
+            double angle = Math.toDegrees(Math.atan2(dy, dx));
 
-    public void update() {
-        if (!alive || path.isEmpty()) {
-            return;
-        }
-
-        if (!inFreezingRange && slowPercent > 0) {
-            slowPercent -= 3.0;
-            if (slowPercent < 0) slowPercent = 0;
-        }
-
-        inFreezingRange = false;
-
-        if (pathIndex >= path.size()) {
-            reachedGoalInternal();
-            return;
-        }
-
-        if (needsRecalculation) {
-            calculateTarget();
-            needsRecalculation = false;
-        }
-
-        double dx = targetX - x;
-        double dy = targetY - y;
-        double distSq = dx * dx + dy * dy;
-
-        double actualSpeed = speed * (1.0 - slowPercent / 100.0);
-        double speedThreshold = actualSpeed * 2;
-        double speedThresholdSq = speedThreshold * speedThreshold;
-
-        if (distSq < speedThresholdSq) {
-            pathIndex++;
-            needsRecalculation = true;
-            if (pathIndex >= path.size()) {
-                reachedGoalInternal();
-            }
-            return;
-        }
-
-        double distance = Math.sqrt(distSq);
-
-        if (distance > 0.1) {
-            double targetAngle = Math.toDegrees(Math.atan2(dy, dx));
-
-            double angleDiff = targetAngle - currentAngle;
-            while (angleDiff > 180) angleDiff -= 360;
-            while (angleDiff < -180) angleDiff += 360;
-
-            currentAngle += angleDiff * 0.15;
-
-            double moveX = (dx / distance) * actualSpeed;
-            double moveY = (dy / distance) * actualSpeed;
-
-            x += moveX;
-            y += moveY;
+            if (pool != null) pool.angle[slot] = angle;
+            else this.currentAngle = angle;
         }
     }
 
-    private void calculateTarget() {
-        int[] currentWaypoint = path.get(pathIndex);
-
-        double baseTargetX = currentWaypoint[1] * tileSize + tileSize / 2;
-        double baseTargetY = currentWaypoint[0] * tileSize + tileSize / 2;
-
-        double dirX, dirY;
-        if (pathIndex + 1 < path.size()) {
-            int[] nextWaypoint = path.get(pathIndex + 1);
-            dirX = nextWaypoint[1] - currentWaypoint[1];
-            dirY = nextWaypoint[0] - currentWaypoint[0];
-        } else {
-            dirX = baseTargetX - x;
-            dirY = baseTargetY - y;
-        }
-
-        double pathAngle = Math.atan2(dirY, dirX);
-        double perpAngle = pathAngle + Math.PI / 2;
-
-        if (pathIndex == path.size() - 1) {
-            targetX = baseTargetX;
-            targetY = baseTargetY;
-        } else {
-            targetX = baseTargetX + Math.cos(perpAngle) * laneOffset;
-            targetY = baseTargetY + Math.sin(perpAngle) * laneOffset;
+    // Movement runs in EnemyPool; a detached enemy stays where it is
+    public void update(double deltaTime) {
+        if (pool != null) {
+            pool.update(slot, deltaTime);
         }
     }
 
-    public void draw(GraphicsContext gc) {
-        if (!alive) {
-            return;
-        }
+    /**
+     * Continuous distance travelled along the path, in waypoints:
+     * (pathIndex - 1) plus the fraction covered toward the current waypoint.
+     * Every enemy shares the level path, so larger means closer to the goal.
+     */
+    public double getPathProgress() {
+        int pathIndex = pool != null ? pool.pathIndex[slot] : this.pathIndex;
+        double x = getX();
+        double y = getY();
 
-        if (slowPercent > 0) {
-            drawFreezeEffectOptimized(gc);
-        }
+        if (pathIndex <= 0 || path.isEmpty()) return 0;
+        if (pathIndex >= path.size()) return path.size() - 1;
 
-        gc.save();
-        gc.translate(x, y);
-        gc.rotate(currentAngle);
+        int[] from = path.get(pathIndex - 1);
+        int[] to = path.get(pathIndex);
 
-        if (sprite != null) {
-            if (slowPercent > 20) {
-                gc.setGlobalAlpha(0.7);
-                gc.drawImage(sprite, -renderHalfSize, -renderHalfSize, renderSize, renderSize);
-                gc.setGlobalAlpha(1.0);
+        double fromX = from[1] * tileSize + tileSize / 2;
+        double fromY = from[0] * tileSize + tileSize / 2;
+        double segX = (to[1] - from[1]) * tileSize;
+        double segY = (to[0] - from[0]) * tileSize;
+        double segLengthSq = segX * segX + segY * segY;
 
-                gc.setFill(FROZEN_OVERLAY);
-                gc.fillRect(-renderHalfSize, -renderHalfSize, renderSize, renderSize);
-            } else {
-                gc.drawImage(sprite, -renderHalfSize, -renderHalfSize, renderSize, renderSize);
-            }
-        } else {
-            gc.setFill(slowPercent > 20 ? FROZEN_COLOR : NORMAL_COLOR);
-            gc.fillRect(-renderHalfSize, -renderHalfSize, renderSize, renderSize);
+        double fraction = 0;
+        if (segLengthSq > 0) {
+            fraction = ((x - fromX) * segX + (y - fromY) * segY) / segLengthSq;
+            fraction = Math.max(0, Math.min(1, fraction));
         }
 
-        gc.restore();
-
-        drawHealthBarOptimized(gc);
+        return pathIndex - 1 + fraction;
     }
 
-    private void drawFreezeEffectOptimized(GraphicsContext gc) {
-        double intensity = slowPercent / 65.0;
-
-        gc.setStroke(FREEZE_STROKE_COLOR);
-        gc.setLineWidth(2);
-
-        double effectSize = renderSize * 0.6;
-        gc.strokeOval(x - effectSize, y - effectSize, effectSize * 2, effectSize * 2);
-
-        if (slowPercent > 30) {
-            gc.setFill(FREEZE_PARTICLE_COLOR);
-
-            double baseAngle = (x + y) % 360;
-
-            for (int i = 0; i < 3; i++) {
-                double angle = (baseAngle + i * 120) % 360;
-                double px = x + Math.cos(Math.toRadians(angle)) * renderHalfSize;
-                double py = y + Math.sin(Math.toRadians(angle)) * renderHalfSize;
-                gc.fillOval(px - 2, py - 2, 4, 4);
+    public void takeDamage(int damage) {
+        if (pool != null) {
+            pool.health[slot] -= damage;
+            if (pool.health[slot] <= 0) {
+                pool.health[slot] = 0;
+                pool.alive[slot] = false;
             }
+            return;
         }
-    }
-
-    private void drawHealthBarOptimized(GraphicsContext gc) {
-        double healthPercent = (double) health / maxHealth;
 
-        double barY = y + healthBarY;
-
-        gc.setFill(HEALTH_BG_COLOR);
-        gc.fillRect(x - renderHalfSize, barY, renderSize, 4);
-
-        gc.setFill(HEALTH_COLOR);
-        gc.fillRect(x - renderHalfSize, barY, renderSize * healthPercent, 4);
-    }
-
-    public void takeDamage(int damage) {
         health -= damage;
         if (health <= 0) {
             health = 0;
@@ -281,30 +160,46 @@ public abstract class Enemy {
         return lastHitByTower;
     }
 
-    private void reachedGoalInternal() {
-        alive = false;
-        reachedGoal = true;
-        System.out.println(enemyType + " enemy reached the goal!");
-    }
-
     public boolean isAlive() {
-        return alive;
+        return pool != null ? pool.alive[slot] : alive;
     }
 
     public double getX() {
-        return x;
+        return pool != null ? pool.x[slot] : x;
     }
 
     public double getY() {
-        return y;
+        return pool != null ? pool.y[slot] : y;
+    }
+
+    public double getRenderX(double alpha) {
+        if (pool == null) return x;
+        double prev = pool.prevX[slot];
+        return prev + (pool.x[slot] - prev) * alpha;
+    }
+
+    public double getRenderY(double alpha) {
+        if (pool == null) return y;
+        double prev = pool.prevY[slot];
+        return prev + (pool.y[slot] - prev) * alpha;
+    }
+
+    // Heading in degrees, clockwise from +x, as drawn
+    public double getAngle() {
+        return pool != null ? pool.angle[slot] : currentAngle;
+    }
+
+    // Width and height of the sprite on screen, in pixels
+    public double getRenderSize() {
+        return renderSize;
     }
 
     public int getHealth() {
-        return health;
+        return pool != null ? pool.health[slot] : health;
     }
 
     public boolean hasReachedGoal() {
-        return reachedGoal;
+        return pool != null ? pool.reachedGoal[slot] : reachedGoal;
     }
 
     public int getGoldReward() {
@@ -312,21 +207,28 @@ public abstract class Enemy {
     }
 
     public double getSlowPercent() {
-        return slowPercent;
+        return pool != null ? pool.slowPercent[slot] : slowPercent;
     }
 
     public void setSlowPercent(double percent) {
-        this.slowPercent = Math.min(percent, 65.0);
+        if (pool != null) pool.slowPercent[slot] = Math.min(percent, 65.0);
+        else this.slowPercent = Math.min(percent, 65.0);
     }
 
     public void setInFreezingRange(boolean inRange) {
-        this.inFreezingRange = inRange;
+        if (pool != null) pool.inFreezingRange[slot] = inRange;
+        else this.inFreezingRange = inRange;
     }
 
     // Initialize enemy with scaled health for wave system
     public void initialize(int scaledHealth) {
         this.maxHealth = scaledHealth;
-        this.health = scaledHealth;
+        if (pool != null) pool.health[slot] = scaledHealth;
+        else this.health = scaledHealth;
+    }
+
+    public boolean isAttached() {
+        return pool != null;
     }
 
     public int getMaxHealth() {
@@ -0,0 +1,342 @@
+package com.eliemichel.polyfinite.domain.enemies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays storage for every enemy on the map.
+ * The per-tick movement loop runs over primitive arrays instead of chasing
+ * Enemy objects; Enemy instances stay as lightweight views for towers and UI.
+ *
+ * Slots are kept dense: releasing an enemy moves the last slot into the hole.
+ * All attached enemies follow the pool's path.
+ */
+public class EnemyPool {
+
+    public static final byte TYPE_REGULAR = 0;
+    public static final byte TYPE_FAST = 1;
+    public static final byte TYPE_STRONG = 2;
+    public static final byte TYPE_OTHER = 3;
+
+    // Slow wears off at this many percent per second once out of freezing range
+    private static final double SLOW_DECAY_PER_SECOND = 180.0;
+
+    // Fraction of the remaining turn kept per 1/60 s when turning toward the heading
+    private static final double TURN_RETAIN_PER_60TH = 0.85;
+
+    private final int tileSize;
+
+    // Waypoint centres and lane directions, precomputed once per level
+    private final double[] waypointX;
+    private final double[] waypointY;
+    private final double[] laneDirX;
+    private final double[] laneDirY;
+    private final int pathLength;
+
+    // Hot state, indexed by slot. Speeds are pixels per second.
+    double[] x;
+    double[] y;
+    double[] prevX;
+    double[] prevY;
+    double[] speed;
+    double[] slowPercent;
+    double[] angle;
+    double[] laneOffset;
+    double[] targetX;
+    double[] targetY;
+    double[] heading;
+    int[] health;
+    int[] pathIndex;
+    byte[] typeId;
+    boolean[] alive;
+    boolean[] reachedGoal;
+    boolean[] inFreezingRange;
+    boolean[] needsRecalculation;
+
+    private Enemy[] views;
+    private int count;
+
+    public EnemyPool(ArrayList<int[]> path, int tileSize) {
+        this(path, tileSize, 256);
+    }
+
+    public EnemyPool(ArrayList<int[]> path, int tileSize, int initialCapacity) {
+        this.tileSize = tileSize;
+        this.pathLength = path.size();
+
+        this.waypointX = new double[pathLength];
+        this.waypointY = new double[pathLength];
+        this.laneDirX = new double[pathLength];
+        this.laneDirY = new double[pathLength];
+
+        for (int i = 0; i < pathLength; i++) {
+            int[] waypoint = path.get(i);
+            waypointX[i] = waypoint[1] * tileSize + tileSize / 2;
+            waypointY[i] = waypoint[0] * tileSize + tileSize / 2;
+
+            // Lane offsets are perpendicular to the direction toward the next waypoint
+            if (i + 1 < pathLength) {
+                int[] next = path.get(i + 1);
+                double pathAngle = Math.atan2(next[0] - waypoint[0], next[1] - waypoint[1]);
+                double perpAngle = pathAngle + Math.PI / 2;
+                laneDirX[i] = Math.cos(perpAngle);
+                laneDirY[i] = Math.sin(perpAngle);
+            }
+        }
+
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    public static byte typeIdOf(String enemyType) {
+        if ("Regular".equals(enemyType)) return TYPE_REGULAR;
+        if ("Fast".equals(enemyType)) return TYPE_FAST;
+        if ("Strong".equals(enemyType)) return TYPE_STRONG;
+        return TYPE_OTHER;
+    }
+
+    // Moves the enemy's state into a slot; the Enemy becomes a view onto it
+    public void attach(Enemy enemy) {
+        if (enemy.pool != null) return;
+
+        if (count == views.length) {
+            allocate(views.length * 2);
+        }
+
+        int s = count++;
+        x[s] = enemy.x;
+        y[s] = enemy.y;
+        prevX[s] = enemy.x;
+        prevY[s] = enemy.y;
+        speed[s] = enemy.speed;
+        slowPercent[s] = enemy.slowPercent;
+        angle[s] = enemy.currentAngle;
+        laneOffset[s] = enemy.laneOffset;
+        targetX[s] = 0;
+        targetY[s] = 0;
+        health[s] = enemy.health;
+        pathIndex[s] = enemy.pathIndex;
+        typeId[s] = typeIdOf(enemy.enemyType);
+        alive[s] = enemy.alive;
+        reachedGoal[s] = enemy.reachedGoal;
+        inFreezingRange[s] = enemy.inFreezingRange;
+        needsRecalculation[s] = true;
+
+        views[s] = enemy;
+        enemy.pool = this;
+        enemy.slot = s;
+    }
+
+    // Copies the slot back into the Enemy so lingering references still read valid state
+    public void release(Enemy enemy) {
+        if (enemy.pool != this) return;
+
+        int s = enemy.slot;
+        enemy.x = x[s];
+        enemy.y = y[s];
+        enemy.speed = speed[s];
+        enemy.slowPercent = slowPercent[s];
+        enemy.currentAngle = angle[s];
+        enemy.laneOffset = laneOffset[s];
+        enemy.health = health[s];
+        enemy.pathIndex = pathIndex[s];
+        enemy.alive = alive[s];
+        enemy.reachedGoal = reachedGoal[s];
+        enemy.inFreezingRange = inFreezingRange[s];
+        enemy.pool = null;
+        enemy.slot = -1;
+
+        int last = --count;
+        if (s != last) {
+            copySlot(last, s);
+            views[s] = views[last];
+            views[s].slot = s;
+        }
+        views[last] = null;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return views.length;
+    }
+
+    public Enemy getView(int slot) {
+        return views[slot];
+    }
+
+    /**
+     * Advances every attached enemy by deltaTime seconds.
+     * Returns how many slots are no longer alive (killed or at the goal) and
+     * are waiting to be released.
+     */
+    public int update(double deltaTime) {
+        double turnFactor = turnFactor(deltaTime);
+
+        int finished = 0;
+        for (int s = 0; s < count; s++) {
+            if (!step(s, deltaTime, turnFactor)) finished++;
+        }
+        return finished;
+    }
+
+    // Single-slot step, used when an individual Enemy is updated directly
+    void update(int s, double deltaTime) {
+        step(s, deltaTime, turnFactor(deltaTime));
+    }
+
+    private static double turnFactor(double deltaTime) {
+        return 1.0 - Math.pow(TURN_RETAIN_PER_60TH, deltaTime * 60.0);
+    }
+
+    private boolean step(int s, double deltaTime, double turnFactor) {
+        prevX[s] = x[s];
+        prevY[s] = y[s];
+
+        if (!alive[s] || pathLength == 0) {
+            return alive[s];
+        }
+
+        if (!inFreezingRange[s] && slowPercent[s] > 0) {
+            slowPercent[s] -= SLOW_DECAY_PER_SECOND * deltaTime;
+            if (slowPercent[s] < 0) slowPercent[s] = 0;
+        }
+
+        inFreezingRange[s] = false;
+
+        if (pathIndex[s] >= pathLength) {
+            reachGoal(s);
+            return false;
+        }
+
+        double dx, dy;
+        if (needsRecalculation[s]) {
+            calculateTarget(s);
+            needsRecalculation[s] = false;
+
+            // OPTIMIZATION: Enemies walk in a straight line to the target,
+            // so the heading only changes when the target does
+            dx = targetX[s] - x[s];
+            dy = targetY[s] - y[s];
+            heading[s] = Math.toDegrees(Math.atan2(dy, dx));
+        } else {
+            dx = targetX[s] - x[s];
+            dy = targetY[s] - y[s];
+        }
+
+        double distSq = dx * dx + dy * dy;
+
+        double stepDistance = speed[s] * (1.0 - slowPercent[s] / 100.0) * deltaTime;
+        double speedThreshold = stepDistance * 2;
+
+        if (distSq < speedThreshold * speedThreshold) {
+            pathIndex[s]++;
+            needsRecalculation[s] = true;
+            if (pathIndex[s] >= pathLength) {
+                reachGoal(s);
+                return false;
+            }
+            return true;
+        }
+
+        double distance = Math.sqrt(distSq);
+
+        if (distance > 0.1) {
+            double angleDiff = heading[s] - angle[s];
+            while (angleDiff > 180) angleDiff -= 360;
+            while (angleDiff < -180) angleDiff += 360;
+
+            angle[s] += angleDiff * turnFactor;
+
+            x[s] += (dx / distance) * stepDistance;
+            y[s] += (dy / distance) * stepDistance;
+        }
+
+        return true;
+    }
+
+    private void calculateTarget(int s) {
+        int index = pathIndex[s];
+
+        // The final waypoint is the goal tile centre, no lane offset
+        if (index == pathLength - 1) {
+            targetX[s] = waypointX[index];
+            targetY[s] = waypointY[index];
+        } else {
+            targetX[s] = waypointX[index] + laneDirX[index] * laneOffset[s];
+            targetY[s] = waypointY[index] + laneDirY[index] * laneOffset[s];
+        }
+    }
+
+    private void reachGoal(int s) {
+        alive[s] = false;
+        reachedGoal[s] = true;
+    }
+
+    private void copySlot(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+        speed[to] = speed[from];
+        slowPercent[to] = slowPercent[from];
+        angle[to] = angle[from];
+        laneOffset[to] = laneOffset[from];
+        targetX[to] = targetX[from];
+        targetY[to] = targetY[from];
+        heading[to] = heading[from];
+        health[to] = health[from];
+        pathIndex[to] = pathIndex[from];
+        typeId[to] = typeId[from];
+        alive[to] = alive[from];
+        reachedGoal[to] = reachedGoal[from];
+        inFreezingRange[to] = inFreezingRange[from];
+        needsRecalculation[to] = needsRecalculation[from];
+    }
+
+    private void allocate(int capacity) {
+        if (views == null) {
+            x = new double[capacity];
+            y = new double[capacity];
+            prevX = new double[capacity];
+            prevY = new double[capacity];
+            speed = new double[capacity];
+            slowPercent = new double[capacity];
+            angle = new double[capacity];
+            laneOffset = new double[capacity];
+            targetX = new double[capacity];
+            targetY = new double[capacity];
+            heading = new double[capacity];
+            health = new int[capacity];
+            pathIndex = new int[capacity];
+            typeId = new byte[capacity];
+            alive = new boolean[capacity];
+            reachedGoal = new boolean[capacity];
+            inFreezingRange = new boolean[capacity];
+            needsRecalculation = new boolean[capacity];
+            views = new Enemy[capacity];
+            return;
+        }
+
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        slowPercent = Arrays.copyOf(slowPercent, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        laneOffset = Arrays.copyOf(laneOffset, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        heading = Arrays.copyOf(heading, capacity);
+        health = Arrays.copyOf(health, capacity);
+        pathIndex = Arrays.copyOf(pathIndex, capacity);
+        typeId = Arrays.copyOf(typeId, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        reachedGoal = Arrays.copyOf(reachedGoal, capacity);
+        inFreezingRange = Arrays.copyOf(inFreezingRange, capacity);
+        needsRecalculation = Arrays.copyOf(needsRecalculation, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+}
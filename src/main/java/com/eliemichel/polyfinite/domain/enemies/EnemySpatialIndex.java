@@ -0,0 +1,182 @@
+package com.eliemichel.polyfinite.domain.enemies;
+
+import com.eliemichel.polyfinite.domain.level.LevelData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Uniform grid of enemies bucketed by the level's tile grid.
+ * Rebuilt once per tick, then queried by towers and explosions by radius
+ * instead of scanning every enemy on the map.
+ *
+ * Query results keep the relative order of the source list, so any selection
+ * loop written for the full ArrayList scan picks exactly the same enemy.
+ */
+public class EnemySpatialIndex {
+
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+
+    // Counting-sort layout: entries for cell c live in [cellStart[c], cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private int[] entries;
+    private int entryCount;
+
+    // OPTIMIZATION: Reusable buffers to avoid garbage collection
+    private int[] entryCell;
+    private int[] queryBuffer;
+
+    private ArrayList<Enemy> source;
+
+    // Optional ordering along the level path, rebuilt alongside the grid
+    private PathProgressIndex progressIndex;
+
+    public EnemySpatialIndex(LevelData levelData, int tileSize) {
+        this(levelData.getGridWidth(), levelData.getGridHeight(), tileSize);
+    }
+
+    public EnemySpatialIndex(int gridWidth, int gridHeight, int tileSize) {
+        this.cellSize = tileSize;
+        this.cols = Math.max(1, gridWidth);
+        this.rows = Math.max(1, gridHeight);
+
+        this.cellStart = new int[cols * rows + 1];
+        this.cellFill = new int[cols * rows];
+        this.entries = new int[64];
+        this.entryCell = new int[64];
+        this.queryBuffer = new int[64];
+        this.source = new ArrayList<>();
+    }
+
+    // Enables path-progress ordering ("First" / "Last" targeting) for this level's path
+    public void setPath(ArrayList<int[]> path, int tileSize) {
+        this.progressIndex = path == null || path.isEmpty() ? null : new PathProgressIndex(path, tileSize);
+    }
+
+    public PathProgressIndex getProgressIndex() {
+        return progressIndex;
+    }
+
+    // Re-bucket every living enemy. Call once per tick after enemies have moved.
+    public void rebuild(ArrayList<Enemy> enemies) {
+        this.source = enemies;
+
+        if (progressIndex != null) {
+            progressIndex.rebuild(enemies);
+        }
+
+        int size = enemies.size();
+        if (entryCell.length < size) {
+            int capacity = Math.max(size, entryCell.length * 2);
+            entryCell = new int[capacity];
+            entries = new int[capacity];
+        }
+
+        Arrays.fill(cellStart, 0);
+
+        // Pass 1: count enemies per cell
+        for (int i = 0; i < size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive()) {
+                entryCell[i] = -1;
+                continue;
+            }
+
+            int cell = cellOf(enemy.getX(), enemy.getY());
+            entryCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+
+        // Prefix sum turns counts into start offsets
+        for (int c = 0; c < cols * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        entryCount = cellStart[cols * rows];
+
+        // Pass 2: place source indices, ascending within each cell
+        System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+        for (int i = 0; i < size; i++) {
+            int cell = entryCell[i];
+            if (cell >= 0) {
+                entries[cellFill[cell]++] = i;
+            }
+        }
+    }
+
+    // Collects living enemies within radius of (x, y) into out, in source list order
+    public void query(double x, double y, double radius, ArrayList<Enemy> out) {
+        out.clear();
+
+        int found = collect(x, y, radius);
+        if (found == 0) return;
+
+        // Restore source order so ties resolve exactly like the linear scan
+        Arrays.sort(queryBuffer, 0, found);
+
+        for (int i = 0; i < found; i++) {
+            out.add(source.get(queryBuffer[i]));
+        }
+    }
+
+    // Counts living enemies within radius of (x, y) without building a list
+    public int countInRadius(double x, double y, double radius) {
+        return collect(x, y, radius);
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    private int collect(double x, double y, double radius) {
+        if (entryCount == 0) return 0;
+
+        int minCol = clampCol((int) Math.floor((x - radius) / cellSize));
+        int maxCol = clampCol((int) Math.floor((x + radius) / cellSize));
+        int minRow = clampRow((int) Math.floor((y - radius) / cellSize));
+        int maxRow = clampRow((int) Math.floor((y + radius) / cellSize));
+
+        double radiusSq = radius * radius;
+        int found = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            int rowBase = row * cols;
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = rowBase + col;
+                for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+                    int index = entries[e];
+                    Enemy enemy = source.get(index);
+                    if (!enemy.isAlive()) continue;
+
+                    double dx = enemy.getX() - x;
+                    double dy = enemy.getY() - y;
+                    if (dx * dx + dy * dy > radiusSq) continue;
+
+                    if (found == queryBuffer.length) {
+                        queryBuffer = Arrays.copyOf(queryBuffer, found * 2);
+                    }
+                    queryBuffer[found++] = index;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private int cellOf(double x, double y) {
+        int col = clampCol((int) Math.floor(x / cellSize));
+        int row = clampRow((int) Math.floor(y / cellSize));
+        return row * cols + col;
+    }
+
+    // Enemies slightly outside the grid (lane offsets at the edges) land in border cells
+    private int clampCol(int col) {
+        return col < 0 ? 0 : (col >= cols ? cols - 1 : col);
+    }
+
+    private int clampRow(int row) {
+        return row < 0 ? 0 : (row >= rows ? rows - 1 : row);
+    }
+}
@@ -0,0 +1,203 @@
+package com.eliemichel.polyfinite.domain.enemies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Living enemies sorted by how far they have travelled along the level path.
+ * Rebuilt once per tick. Towers describe their range as intervals of path progress,
+ * so "First" / "Last" only walk enemies on the path segments inside the range.
+ *
+ * Progress is compared at float precision and ties go to the lower source index
+ * (the earliest spawned enemy), exactly like the full-scan selection in Tower.
+ */
+public class PathProgressIndex {
+
+    private final ArrayList<int[]> path;
+    private final int tileSize;
+
+    // Waypoint centres in pixels, precomputed once per level
+    private final double[] waypointX;
+    private final double[] waypointY;
+
+    // Sorted ascending: high 32 bits = float bits of progress, low 32 bits = source index
+    private long[] keys;
+    private Enemy[] sorted;
+    private int count;
+
+    public PathProgressIndex(ArrayList<int[]> path, int tileSize) {
+        this.path = path;
+        this.tileSize = tileSize;
+
+        this.waypointX = new double[path.size()];
+        this.waypointY = new double[path.size()];
+        for (int i = 0; i < path.size(); i++) {
+            int[] waypoint = path.get(i);
+            waypointX[i] = waypoint[1] * tileSize + tileSize / 2;
+            waypointY[i] = waypoint[0] * tileSize + tileSize / 2;
+        }
+
+        this.keys = new long[64];
+        this.sorted = new Enemy[64];
+    }
+
+    public ArrayList<int[]> getPath() {
+        return path;
+    }
+
+    public void rebuild(ArrayList<Enemy> enemies) {
+        int size = enemies.size();
+        if (keys.length < size) {
+            int capacity = Math.max(size, keys.length * 2);
+            keys = new long[capacity];
+            sorted = new Enemy[capacity];
+        }
+
+        count = 0;
+        for (int i = 0; i < size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive()) continue;
+            keys[count++] = keyOf(enemy.getPathProgress(), i);
+        }
+
+        Arrays.sort(keys, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            sorted[i] = enemies.get((int) keys[i]);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Progress intervals [lo, hi] whose path centreline passes within radius + margin
+     * of (x, y), merged and flattened as {lo0, hi0, lo1, hi1, ...}.
+     * Depends only on the tower position and range, so towers cache the result.
+     */
+    public double[] computeRangeIntervals(double x, double y, double radius) {
+        // Enemies wander off the centreline by their lane offset and cut corners,
+        // so one tile of slack keeps every in-range enemy inside an interval.
+        double reach = radius + tileSize;
+        double reachSq = reach * reach;
+
+        double[] intervals = new double[8];
+        int used = 0;
+
+        for (int k = 0; k + 1 < waypointX.length; k++) {
+            double ax = waypointX[k];
+            double ay = waypointY[k];
+            double dx = waypointX[k + 1] - ax;
+            double dy = waypointY[k + 1] - ay;
+
+            // Solve |a + t*d - c|^2 <= reach^2 for t in [0, 1]
+            double fx = ax - x;
+            double fy = ay - y;
+            double a = dx * dx + dy * dy;
+            double b = 2 * (fx * dx + fy * dy);
+            double c = fx * fx + fy * fy - reachSq;
+
+            double tMin, tMax;
+            if (a == 0) {
+                if (c > 0) continue;
+                tMin = 0;
+                tMax = 1;
+            } else {
+                double disc = b * b - 4 * a * c;
+                if (disc < 0) continue;
+                double sqrtDisc = Math.sqrt(disc);
+                tMin = Math.max(0, (-b - sqrtDisc) / (2 * a));
+                tMax = Math.min(1, (-b + sqrtDisc) / (2 * a));
+                if (tMin > tMax) continue;
+            }
+
+            double lo = k + tMin;
+            double hi = k + tMax;
+
+            // Merge with the previous interval when they touch
+            if (used > 0 && lo <= intervals[used - 1]) {
+                intervals[used - 1] = Math.max(intervals[used - 1], hi);
+                continue;
+            }
+
+            if (used == intervals.length) {
+                intervals = Arrays.copyOf(intervals, used * 2);
+            }
+            intervals[used++] = lo;
+            intervals[used++] = hi;
+        }
+
+        return Arrays.copyOf(intervals, used);
+    }
+
+    // Most advanced living enemy within radius, or null
+    public Enemy findFirst(double x, double y, double radiusSq, double[] intervals) {
+        for (int i = intervals.length - 2; i >= 0; i -= 2) {
+            int lo = lowerBound(intervals[i]);
+            int hi = upperBound(intervals[i + 1]);
+
+            for (int s = hi - 1; s >= lo; s--) {
+                if (!inRange(sorted[s], x, y, radiusSq)) continue;
+
+                // Walking down visits equal progress from the highest index; prefer the lowest
+                int best = s;
+                int bits = (int) (keys[s] >>> 32);
+                for (int t = s - 1; t >= lo && (int) (keys[t] >>> 32) == bits; t--) {
+                    if (inRange(sorted[t], x, y, radiusSq)) best = t;
+                }
+                return sorted[best];
+            }
+        }
+        return null;
+    }
+
+    // Least advanced living enemy within radius, or null
+    public Enemy findLast(double x, double y, double radiusSq, double[] intervals) {
+        for (int i = 0; i < intervals.length; i += 2) {
+            int lo = lowerBound(intervals[i]);
+            int hi = upperBound(intervals[i + 1]);
+
+            for (int s = lo; s < hi; s++) {
+                if (inRange(sorted[s], x, y, radiusSq)) return sorted[s];
+            }
+        }
+        return null;
+    }
+
+    private boolean inRange(Enemy enemy, double x, double y, double radiusSq) {
+        if (!enemy.isAlive()) return false;
+        double dx = enemy.getX() - x;
+        double dy = enemy.getY() - y;
+        return dx * dx + dy * dy <= radiusSq;
+    }
+
+    // First slot with progress >= value
+    private int lowerBound(double value) {
+        long key = (long) Float.floatToIntBits(Math.nextDown((float) value)) << 32;
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // First slot with progress > value
+    private int upperBound(double value) {
+        long key = ((long) Float.floatToIntBits(Math.nextUp((float) value)) << 32) | 0xFFFFFFFFL;
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Progress is never negative, so its float bits sort the same way as the values
+    private static long keyOf(double progress, int index) {
+        return ((long) Float.floatToIntBits((float) Math.max(0, progress)) << 32) | index;
+    }
+}
@@ -10,11 +10,11 @@ public class Fast extends Enemy {
         this.enemyType = "Fast";
         this.health = 50;
         this.maxHealth = 50;
-        this.speed = 0.5;
+        this.speed = 30.0;
         this.goldReward = 5;
         this.sizeScale = 0.67;
 
-        loadSprite("/sprites/enemies/Fastbig.png");
+        loadSprite("enemies/Fastbig");
     }
 
     @Override
@@ -10,11 +10,11 @@ public class Regular extends Enemy {
         this.enemyType = "Regular";
         this.health = 50;
         this.maxHealth = 50;
-        this.speed = 0.3;
+        this.speed = 18.0;
         this.goldReward = 3;
         this.sizeScale = 0.67;
 
-        loadSprite("/sprites/enemies/Regular.png");
+        loadSprite("enemies/Regular");
     }
 
     @Override
@@ -10,11 +10,11 @@ public class Strong extends Enemy {
         this.enemyType = "Strong";
         this.health = 250;
         this.maxHealth = 250;
-        this.speed = 0.18;
+        this.speed = 10.8;
         this.goldReward = 10;
         this.sizeScale = 0.67;
 
-        loadSprite("/sprites/enemies/Strong.png");
+        loadSprite("enemies/Strong");
     }
 
     @Override
@@ -1,8 +1,9 @@
 package com.eliemichel.polyfinite.domain.player;
 
-import com.eliemichel.polyfinite.database.DBConnectMySQL;
-import java.sql.ResultSet;
+import com.eliemichel.polyfinite.infrastructure.persistence.PersistenceQueue;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveStores;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Singleton class that manages all meta-currencies for the player.
@@ -32,6 +33,13 @@ public class PlayerCurrencies {
 
     // Load currencies from database for a save slot
     public void loadCurrencies(int saveSlotId) {
+        // Pending saves for this (or the previous) slot must land before reading back
+        PersistenceQueue.getInstance().flushAndWait();
+        loadCurrencies(saveSlotId, SaveStores.get().loadCurrencies(saveSlotId));
+    }
+
+    // Replace all amounts with saved ones (currency type name -> amount), e.g. from a SaveSnapshot
+    public void loadCurrencies(int saveSlotId, Map<String, Integer> saved) {
         this.currentSaveSlotId = saveSlotId;
 
         // Reset to 0
@@ -39,76 +47,26 @@ public class PlayerCurrencies {
             currencies.put(type, 0);
         }
 
-        DBConnectMySQL db = new DBConnectMySQL();
-
-        if (!db.isConnected()) {
-            System.out.println("Cannot load currencies - database not connected");
-            return;
-        }
-
-        try {
-            String sql = "SELECT currency_type, amount FROM player_currencies " +
-                         "WHERE save_slot_id = " + saveSlotId;
-
-            ResultSet rs = db.getStatement().executeQuery(sql);
-
-            while (rs.next()) {
-                String typeName = rs.getString("currency_type");
-                int amount = rs.getInt("amount");
-
-                try {
-                    RewardType type = RewardType.valueOf(typeName);
-                    currencies.put(type, amount);
-                } catch (Exception e) {
-                    // Unknown currency type, skip
-                }
+        for (Map.Entry<String, Integer> entry : saved.entrySet()) {
+            try {
+                currencies.put(RewardType.valueOf(entry.getKey()), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                // Unknown currency type, skip
             }
-
-            db.closeConnection();
-            System.out.println("Loaded currencies for slot " + saveSlotId);
-
-        } catch (Exception e) {
-            System.out.println("Error loading currencies: " + e.getMessage());
         }
+        System.out.println("Loaded currencies for slot " + saveSlotId);
     }
 
-    // Save a single currency to database
+    // OPTIMIZATION: Queue the save instead of a blocking round-trip; repeated drops of the
+    // same currency collapse into one write of the latest amount
     private void saveCurrency(RewardType type) {
         if (currentSaveSlotId == 0) return;
 
-        DBConnectMySQL db = new DBConnectMySQL();
-
-        if (!db.isConnected()) {
-            return;
-        }
-
-        try {
-            int amount = currencies.get(type);
-
-            // Check if record exists
-            String checkSql = "SELECT id FROM player_currencies WHERE save_slot_id = " + currentSaveSlotId +
-                             " AND currency_type = '" + type.name() + "'";
-
-            ResultSet rs = db.getStatement().executeQuery(checkSql);
-
-            if (rs.next()) {
-                // Update
-                String updateSql = "UPDATE player_currencies SET amount = " + amount +
-                                  " WHERE save_slot_id = " + currentSaveSlotId +
-                                  " AND currency_type = '" + type.name() + "'";
-                db.getStatement().executeUpdate(updateSql);
-            } else {
-                // Insert
-                String insertSql = "INSERT INTO player_currencies (save_slot_id, currency_type, amount) " +
-                                  "VALUES (" + currentSaveSlotId + ", '" + type.name() + "', " + amount + ")";
-                db.getStatement().executeUpdate(insertSql);
-            }
-
-            db.closeConnection();
+        int saveSlotId = currentSaveSlotId;
+        int amount = currencies.get(type);
 
-        } catch (Exception e) {
-            System.out.println("Error saving currency: " + e.getMessage());
-        }
+        PersistenceQueue.getInstance().enqueue("currency:" + saveSlotId + ":" + type.name(),
+                store -> store.saveCurrency(saveSlotId, type.name(), amount));
     }
 
     // Add currency and save
@@ -118,9 +76,6 @@ public class PlayerCurrencies {
         int current = currencies.get(type);
         currencies.put(type, current + amount);
         saveCurrency(type);
-
-        System.out.println("Added " + amount + " " + type.getDisplayName() + 
-                          " (Total: " + currencies.get(type) + ")");
     }
 
     // Spend currency if player has enough
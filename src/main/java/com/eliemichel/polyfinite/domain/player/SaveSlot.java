@@ -1,8 +1,16 @@
 package com.eliemichel.polyfinite.domain.player;
 
-import com.eliemichel.polyfinite.database.DBConnectMySQL;
-import java.sql.ResultSet;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.infrastructure.persistence.LevelProgressRecord;
+import com.eliemichel.polyfinite.infrastructure.persistence.PersistenceQueue;
+import com.eliemichel.polyfinite.infrastructure.persistence.QuestProgressRecord;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveSlotRecord;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveSnapshot;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveStores;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class SaveSlot {
 
@@ -13,6 +21,10 @@ public class SaveSlot {
     private int gold;
     private String playerName;
 
+    // Filled by open(); kept current by this slot's own saves
+    private HashMap<Integer, LevelProgressRecord> levelProgress = new HashMap<>();
+    private HashMap<Integer, List<QuestProgressRecord>> questProgress = new HashMap<>();
+
     public SaveSlot(int slotNumber) {
         this.slotNumber = slotNumber;
         this.isEmpty = true;
@@ -23,38 +35,56 @@ public class SaveSlot {
     }
 
     public void loadFromDatabase() {
-        DBConnectMySQL connector = new DBConnectMySQL();
-
-        if (!connector.isConnected()) {
-            System.out.println("Cannot load save slot - database not connected");
-            return;
-        }
+        SaveSlotRecord record = SaveStores.get().loadSlot(slotNumber);
+        if (record == null) return;
 
-        try {
-            String sql = "SELECT * FROM save_slots WHERE slot_number = " + slotNumber;
-            ResultSet rs = connector.getStatement().executeQuery(sql);
+        applyRecord(record);
+    }
 
-            if (rs.next()) {
-                this.playerName = rs.getString("player_name");
-                this.totalStars = rs.getInt("total_stars");
-                this.currentLevel = rs.getInt("current_level");
-                this.gold = rs.getInt("gold");
+    /**
+     * OPTIMIZATION: Reads the whole slot with one SaveStore.loadSnapshot call and hands
+     * currencies and research to their singletons, instead of each of them (and the map
+     * screen, and every level's quests) querying the store separately.
+     */
+    public void open() {
+        // Pending saves for this (or the previous) slot must land before reading back
+        PersistenceQueue.getInstance().flushAndWait();
+        SaveSnapshot snapshot = SaveStores.get().loadSnapshot(slotNumber);
+
+        if (snapshot.slot != null) {
+            applyRecord(snapshot.slot);
+        }
+        levelProgress = new HashMap<>(snapshot.levelProgress);
+        questProgress = new HashMap<>(snapshot.questProgress);
 
-                if (this.totalStars > 0 || this.currentLevel > 1) {
-                    this.isEmpty = false;
-                } else {
-                    this.isEmpty = true;
-                }
+        // The incremental total starts from the stars actually recorded per level
+        int levelStars = 0;
+        for (LevelProgressRecord progress : levelProgress.values()) {
+            levelStars += progress.starsEarned;
+        }
+        // The store's star check reports the repair once it has rewritten the row
+        if (snapshot.slot != null && levelStars != totalStars) {
+            totalStars = levelStars;
+            scheduleStarCheck();
+        }
 
-                System.out.println("Loaded slot " + slotNumber + ": " + totalStars + " stars, level " + currentLevel);
-            }
+        PlayerCurrencies.getInstance().loadCurrencies(slotNumber, snapshot.currencies);
+        ResearchManager.getInstance().loadResearch(slotNumber, snapshot.research);
+    }
 
-            connector.closeConnection();
+    private void applyRecord(SaveSlotRecord record) {
+        this.playerName = record.playerName;
+        this.totalStars = record.totalStars;
+        this.currentLevel = record.currentLevel;
+        this.gold = record.gold;
 
-        } catch (Exception e) {
-            System.out.println("Error loading save slot: " + e.getMessage());
-            e.printStackTrace();
+        if (this.totalStars > 0 || this.currentLevel > 1) {
+            this.isEmpty = false;
+        } else {
+            this.isEmpty = true;
         }
+
+        System.out.println("Loaded slot " + slotNumber + ": " + totalStars + " stars, level " + currentLevel);
     }
 
     public void startNewGame() {
@@ -63,19 +93,8 @@ public class SaveSlot {
         this.currentLevel = 1;
         this.gold = 20;
 
-        DBConnectMySQL connector = new DBConnectMySQL();
-
-        if (!connector.isConnected()) {
-            return;
-        }
-
-        try {
-            String sql = "UPDATE save_slots SET total_stars = 0, current_level = 1, gold = 500 WHERE slot_number = " + slotNumber;
-            connector.getStatement().executeUpdate(sql);
-            connector.closeConnection();
+        if (SaveStores.get().startNewGame(slotNumber)) {
             System.out.println("Started new game in slot " + slotNumber);
-        } catch (Exception e) {
-            System.out.println("Error starting new game: " + e.getMessage());
         }
     }
 
@@ -94,54 +113,45 @@ public class SaveSlot {
 
     private void saveLevelProgress(int levelNumber, int wave, int score, int milestoneStarsEarned,
                                    boolean q1, boolean q2, boolean q3, ArrayList<WaveMilestone> waveMilestones) {
-        DBConnectMySQL connector = new DBConnectMySQL();
-
-        if (!connector.isConnected()) {
-            System.out.println("Cannot save progress - database not connected");
-            return;
-        }
+        int milestoneStars = calculateStarsForWave(wave, waveMilestones);
+        int starsEarned = Math.min(3, Math.max(milestoneStarsEarned, milestoneStars));
 
-        try {
-            int milestoneStars = calculateStarsForWave(wave, waveMilestones);
-            int starsEarned = Math.min(3, Math.max(milestoneStarsEarned, milestoneStars));
+        LevelProgressRecord run = new LevelProgressRecord(levelNumber, wave, score, starsEarned, q1, q2, q3, 1);
+        LevelProgressRecord previous = levelProgress.get(levelNumber);
+        LevelProgressRecord merged = previous != null ? previous.mergeRun(run) : run;
 
-            String upsertSql = "INSERT INTO level_progress " +
-                    "(save_slot_id, level_number, best_wave, best_score, quest_1_completed, quest_2_completed, quest_3_completed, stars_earned, times_played) " +
-                    "VALUES (" + slotNumber + ", " + levelNumber + ", " + wave + ", " + score + ", " +
-                    (q1 ? 1 : 0) + ", " + (q2 ? 1 : 0) + ", " + (q3 ? 1 : 0) + ", " + starsEarned + ", 1) " +
-                    "ON DUPLICATE KEY UPDATE " +
-                    "best_wave = GREATEST(best_wave, VALUES(best_wave)), " +
-                    "best_score = GREATEST(best_score, VALUES(best_score)), " +
-                    "quest_1_completed = quest_1_completed OR VALUES(quest_1_completed), " +
-                    "quest_2_completed = quest_2_completed OR VALUES(quest_2_completed), " +
-                    "quest_3_completed = quest_3_completed OR VALUES(quest_3_completed), " +
-                    "stars_earned = GREATEST(stars_earned, VALUES(stars_earned)), " +
-                    "times_played = times_played + 1";
+        // OPTIMIZATION: Only this level's best stars can change, so the total moves by their
+        // delta; the SUM over all levels runs later on the persistence writer as a check
+        int previousStars = previous != null ? previous.starsEarned : 0;
+        int newTotalStars = totalStars + merged.starsEarned - previousStars;
+        if (!SaveStores.get().saveLevelProgress(slotNumber, run, newTotalStars)) return;
 
-            connector.getStatement().executeUpdate(upsertSql);
-            System.out.println("Saved level progress: " + starsEarned + " stars");
-
-            String totalStarsSql = "SELECT SUM(stars_earned) as total FROM level_progress WHERE save_slot_id = " + slotNumber;
-            ResultSet totalRs = connector.getStatement().executeQuery(totalStarsSql);
-
-            if (totalRs.next()) {
-                int newTotalStars = totalRs.getInt("total");
+        System.out.println("Saved level progress: " + starsEarned + " stars");
+        this.totalStars = newTotalStars;
+        this.isEmpty = false;
+        levelProgress.put(levelNumber, merged);
+        scheduleStarCheck();
 
-                String updateSlotSql = "UPDATE save_slots SET total_stars = " + newTotalStars + " WHERE slot_number = " + slotNumber;
-                connector.getStatement().executeUpdate(updateSlotSql);
+        System.out.println("Total stars: " + newTotalStars);
+    }
 
-                this.totalStars = newTotalStars;
-                this.isEmpty = false;
+    private void scheduleStarCheck() {
+        int slot = slotNumber;
+        PersistenceQueue.getInstance().enqueue("stars:" + slot, store -> store.checkTotalStars(slot));
+    }
 
-                System.out.println("Total stars: " + newTotalStars);
-            }
+    // Best results per level, as of open() plus the runs saved since
+    public Map<Integer, LevelProgressRecord> getLevelProgress() {
+        return levelProgress;
+    }
 
-            connector.closeConnection();
+    public List<QuestProgressRecord> getQuestProgress(int levelNumber) {
+        return questProgress.getOrDefault(levelNumber, List.of());
+    }
 
-        } catch (Exception e) {
-            System.out.println("Error saving level progress: " + e.getMessage());
-            e.printStackTrace();
-        }
+    // Called when a level's quest progress is queued for saving, so replaying it starts from there
+    public void setQuestProgress(int levelNumber, List<QuestProgressRecord> rows) {
+        questProgress.put(levelNumber, rows);
     }
 
     public int getSlotNumber() {
@@ -1,9 +1,10 @@
 package com.eliemichel.polyfinite.domain.progression;
 
-import com.eliemichel.polyfinite.database.DBConnectMySQL;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import com.eliemichel.polyfinite.infrastructure.persistence.PersistenceQueue;
+import com.eliemichel.polyfinite.infrastructure.persistence.SaveStores;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Singleton class that manages all research upgrades globally.
@@ -102,6 +103,12 @@ public class ResearchManager {
     // ========== DATABASE LOADING/SAVING ==========
 
     public void loadResearch(int saveSlotId) {
+        PersistenceQueue.getInstance().flushAndWait();
+        loadResearch(saveSlotId, SaveStores.get().loadResearch(saveSlotId));
+    }
+
+    // Research id -> level as saved for the slot, e.g. from a SaveSnapshot
+    public void loadResearch(int saveSlotId, Map<String, Integer> saved) {
         this.currentSaveSlotId = saveSlotId;
 
         // Reset to defaults first
@@ -109,50 +116,25 @@ public class ResearchManager {
             researchLevels.put(id, 0);
         }
 
-        DBConnectMySQL db = new DBConnectMySQL();
-        if (db.isConnected()) {
-            try {
-                String query = "SELECT research_id, current_level FROM player_research WHERE save_slot_id = ?";
-                PreparedStatement stmt = db.getConnection().prepareStatement(query);
-                stmt.setInt(1, saveSlotId);
-
-                ResultSet rs = stmt.executeQuery();
-                while (rs.next()) {
-                    String id = rs.getString("research_id");
-                    int level = rs.getInt("current_level");
-                    if (researchData.containsKey(id)) {
-                        researchLevels.put(id, level);
-                    }
-                }
-                System.out.println("Research loaded for slot " + saveSlotId);
-            } catch (Exception e) {
-                System.out.println("Error loading research: " + e.getMessage());
-            } finally {
-                db.closeConnection();
+        for (Map.Entry<String, Integer> entry : saved.entrySet()) {
+            if (researchData.containsKey(entry.getKey())) {
+                researchLevels.put(entry.getKey(), entry.getValue());
             }
         }
+        System.out.println("Research loaded for slot " + saveSlotId);
+    }
+
+    public int getCurrentSaveSlotId() {
+        return currentSaveSlotId;
     }
 
+    // Written behind by PersistenceQueue, so clicking through upgrades never waits on the save store
     public void saveResearch(String researchId, int level) {
         if (currentSaveSlotId == 0) return;
 
-        DBConnectMySQL db = new DBConnectMySQL();
-        if (db.isConnected()) {
-            try {
-                String query = "INSERT INTO player_research (save_slot_id, research_id, current_level) " +
-                        "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE current_level = ?";
-                PreparedStatement stmt = db.getConnection().prepareStatement(query);
-                stmt.setInt(1, currentSaveSlotId);
-                stmt.setString(2, researchId);
-                stmt.setInt(3, level);
-                stmt.setInt(4, level);
-                stmt.executeUpdate();
-            } catch (Exception e) {
-                System.out.println("Error saving research: " + e.getMessage());
-            } finally {
-                db.closeConnection();
-            }
-        }
+        int saveSlotId = currentSaveSlotId;
+        PersistenceQueue.getInstance().enqueue("research:" + saveSlotId + ":" + researchId,
+                store -> store.saveResearch(saveSlotId, researchId, level));
     }
 
     // ========== BACKWARDS COMPATIBLE METHOD ==========
@@ -292,6 +274,21 @@ public class ResearchManager {
     public double getFreezeSpeedMultiplier() { return getMultiplier("freeze_speed"); }
     public int getFreezeMaxMK() { return (int) getAbsoluteValue("freeze_max_mk"); }
 
+    // Copy of the current levels, e.g. for a replay header
+    public Map<String, Integer> getLevelsSnapshot() {
+        return new TreeMap<>(researchLevels);
+    }
+
+    // Sets every level from a snapshot without writing to the database
+    public void applyLevelsSnapshot(Map<String, Integer> levels) {
+        resetAll();
+        for (Map.Entry<String, Integer> entry : levels.entrySet()) {
+            if (researchData.containsKey(entry.getKey())) {
+                researchLevels.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     public void resetAll() {
         for (String id : researchData.keySet()) {
             researchLevels.put(id, 0);
@@ -38,7 +38,6 @@ public abstract class Quest {
     protected void checkCompletion() {
         if (!completed && currentProgress >= targetValue) {
             completed = true;
-            System.out.println("Quest completed: " + description);
         }
     }
 
@@ -1,8 +1,11 @@
 package com.eliemichel.polyfinite.domain.quests;
 
-import com.eliemichel.polyfinite.database.DBConnectMySQL;
-import java.sql.ResultSet;
+import com.eliemichel.polyfinite.domain.player.SaveSlot;
+import com.eliemichel.polyfinite.infrastructure.persistence.PersistenceQueue;
+import com.eliemichel.polyfinite.infrastructure.persistence.QuestProgressRecord;
+import com.eliemichel.polyfinite.infrastructure.telemetry.GameplayEvent;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages all quests for the current level.
@@ -16,17 +19,19 @@ public class QuestManager {
     private ArrayList<Quest> allQuests;
     private int levelNumber;
     private int saveSlotId;
+    private SaveSlot saveSlot;
     private PlayerCurrencies playerCurrencies;
 
     // Callback for when a quest is completed
     private Runnable onQuestCompleted;
     private Runnable onQuestProgressChanged;
 
-    public QuestManager(int levelNumber, int saveSlotId) {
+    public QuestManager(int levelNumber, SaveSlot saveSlot) {
         this.quests = new ArrayList<>();
         this.allQuests = new ArrayList<>();
         this.levelNumber = levelNumber;
-        this.saveSlotId = saveSlotId;
+        this.saveSlot = saveSlot;
+        this.saveSlotId = saveSlot.getSlotNumber();
         this.playerCurrencies = PlayerCurrencies.getInstance();
     }
 
@@ -50,46 +55,21 @@ public class QuestManager {
         System.out.println("Initialized " + quests.size() + " active quests for level " + levelNumber);
     }
 
-    // Load quest progress from database
+    // Restore quest progress loaded with the save slot (no database round-trip per level)
     private void loadQuestProgress() {
-        DBConnectMySQL db = new DBConnectMySQL();
-
-        if (!db.isConnected()) {
-            System.out.println("Cannot load quest progress - database not connected");
-            return;
-        }
-
-        try {
-            String sql = "SELECT quest_id, current_progress, completed, reward_granted " +
-                         "FROM quest_progress WHERE save_slot_id = " + saveSlotId + 
-                         " AND level_number = " + levelNumber;
-
-            ResultSet rs = db.getStatement().executeQuery(sql);
-
-            while (rs.next()) {
-                String questId = rs.getString("quest_id");
-                int progress = rs.getInt("current_progress");
-                boolean completed = rs.getBoolean("completed");
-                boolean rewardGranted = rs.getBoolean("reward_granted");
-
-                // Find matching quest and restore progress
-                for (Quest quest : allQuests) {
-                    if (quest.getQuestId().equals(questId)) {
-                        quest.setCurrentProgress(progress);
-                        quest.setCompleted(completed);
-                        quest.setRewardGranted(rewardGranted);
-                        break;
-                    }
+        List<QuestProgressRecord> saved = saveSlot.getQuestProgress(levelNumber);
+        for (QuestProgressRecord row : saved) {
+            // Find matching quest and restore progress
+            for (Quest quest : allQuests) {
+                if (quest.getQuestId().equals(row.questId)) {
+                    quest.setCurrentProgress(row.progress);
+                    quest.setCompleted(row.completed);
+                    quest.setRewardGranted(row.rewardGranted);
+                    break;
                 }
             }
-
-            db.closeConnection();
-            System.out.println("Loaded quest progress for level " + levelNumber);
-
-        } catch (Exception e) {
-            System.out.println("Error loading quest progress: " + e.getMessage());
-            e.printStackTrace();
         }
+        System.out.println("Loaded quest progress for level " + levelNumber);
     }
 
     private void selectActiveQuests() {
@@ -105,51 +85,20 @@ public class QuestManager {
         }
     }
 
-    // Save quest progress to database
+    // Queue the whole level's quest progress as one pending write; later saves replace it
     public void saveQuestProgress() {
-        DBConnectMySQL db = new DBConnectMySQL();
-
-        if (!db.isConnected()) {
-            System.out.println("Cannot save quest progress - database not connected");
-            return;
+        ArrayList<QuestProgressRecord> rows = new ArrayList<>(allQuests.size());
+        for (Quest quest : allQuests) {
+            rows.add(new QuestProgressRecord(quest.getQuestId(), quest.getCurrentProgress(),
+                    quest.isCompleted(), quest.isRewardGranted()));
         }
+        if (rows.isEmpty()) return;
+        saveSlot.setQuestProgress(levelNumber, rows);
 
-        try {
-            for (Quest quest : allQuests) {
-                // Check if record exists
-                String checkSql = "SELECT id FROM quest_progress WHERE save_slot_id = " + saveSlotId +
-                                 " AND level_number = " + levelNumber +
-                                 " AND quest_id = '" + quest.getQuestId() + "'";
-
-                ResultSet rs = db.getStatement().executeQuery(checkSql);
-
-                if (rs.next()) {
-                    // Update existing record
-                    String updateSql = "UPDATE quest_progress SET " +
-                                      "current_progress = " + quest.getCurrentProgress() + ", " +
-                                      "completed = " + (quest.isCompleted() ? 1 : 0) + ", " +
-                                      "reward_granted = " + (quest.isRewardGranted() ? 1 : 0) + " " +
-                                      "WHERE save_slot_id = " + saveSlotId +
-                                      " AND level_number = " + levelNumber +
-                                      " AND quest_id = '" + quest.getQuestId() + "'";
-                    db.getStatement().executeUpdate(updateSql);
-                } else {
-                    // Insert new record
-                    String insertSql = "INSERT INTO quest_progress " +
-                                      "(save_slot_id, level_number, quest_id, current_progress, completed, reward_granted) " +
-                                      "VALUES (" + saveSlotId + ", " + levelNumber + ", '" + quest.getQuestId() + "', " +
-                                      quest.getCurrentProgress() + ", " + (quest.isCompleted() ? 1 : 0) + ", " +
-                                      (quest.isRewardGranted() ? 1 : 0) + ")";
-                    db.getStatement().executeUpdate(insertSql);
-                }
-            }
-
-            db.closeConnection();
-
-        } catch (Exception e) {
-            System.out.println("Error saving quest progress: " + e.getMessage());
-            e.printStackTrace();
-        }
+        int slot = saveSlotId;
+        int level = levelNumber;
+        PersistenceQueue.getInstance().enqueue("quests:" + slot + ":" + level,
+                store -> store.saveQuestProgress(slot, level, rows));
     }
 
     // ==================== EVENT HANDLERS ====================
@@ -219,7 +168,7 @@ public class QuestManager {
             playerCurrencies.addCurrency(reward.getType(), reward.getAmount());
             quest.setRewardGranted(true);
 
-            System.out.println("Quest completed! Reward: " + reward.getDisplayString());
+            GameplayEvent.emit(GameplayEvent.QUEST_COMPLETED, reward.getDisplayString(), reward.getAmount());
         }
 
         // Save progress immediately on completion
@@ -291,5 +240,6 @@ public class QuestManager {
     // Called when level ends - save final progress
     public void onLevelEnd() {
         saveQuestProgress();
+        PersistenceQueue.getInstance().flush();
     }
 }
@@ -1,6 +1,6 @@
 package com.eliemichel.polyfinite.domain.tiles;
 
-import javafx.scene.image.Image;
+import com.eliemichel.polyfinite.utils.AtlasSprite;
 import javafx.scene.paint.Color;
 
 public abstract class Tile {
@@ -28,7 +28,7 @@ public abstract class Tile {
 
     public abstract boolean canPlaceTower();
 
-    protected Image cachedImage;
-    public Image getCachedImage() { return cachedImage; }
-    public void setCachedImage(Image img) { this.cachedImage = img; }
+    protected AtlasSprite cachedSprite;
+    public AtlasSprite getCachedSprite() { return cachedSprite; }
+    public void setCachedSprite(AtlasSprite sprite) { this.cachedSprite = sprite; }
 }
\ No newline at end of file
@@ -1,30 +1,56 @@
 package com.eliemichel.polyfinite.domain.towers;
 
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
 import com.eliemichel.polyfinite.domain.towers.types.Tower;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
 import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
 
 public class ExplosiveProjectile {
 
+    // Cannon shells have no sprite file; they are drawn as a glowing ball
+    private static final Color SHELL_COLOR = Color.rgb(255, 140, 0);
+    // OPTIMIZATION: One glow effect shared by every cannon shell
+    private static final DropShadow SHELL_GLOW = new DropShadow(BlurType.GAUSSIAN, Color.rgb(255, 100, 0), 8, 0.8, 0, 0);
+
     private double x;
     private double y;
+    private double prevX;
+    private double prevY;
     private Enemy target;
     private double damage;
-    private double speed;
+    private double speed;  // Pixels per second
     private Color color;
     private boolean active;
-    private double angle;
-    private Image sprite;
     private Tower sourceTower;
     private double explosionRange;
 
+    // OPTIMIZATION: Reusable list for enemies caught in the blast
+    private final ArrayList<Enemy> blastCandidates = new ArrayList<>();
+
+    // Arc system: 20 arcs of 18 degrees each, reused between explosions
+    private final double[] arcDamage = new double[20];
+
     public ExplosiveProjectile(double x, double y, Enemy target, double damage, double speed,
                                Color color, Tower sourceTower, double explosionRange) {
+        reset(x, y, target, damage, speed, color, sourceTower, explosionRange);
+    }
+
+    // Pooled instances start inactive until ProjectilePool hands them out
+    ExplosiveProjectile() {
+        this.active = false;
+    }
+
+    void reset(double x, double y, Enemy target, double damage, double speed,
+               Color color, Tower sourceTower, double explosionRange) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.target = target;
         this.damage = damage;
         this.speed = speed;
@@ -32,19 +58,25 @@ public class ExplosiveProjectile {
         this.active = true;
         this.sourceTower = sourceTower;
         this.explosionRange = explosionRange;
+    }
 
-        double dx = target.getX() - x;
-        double dy = target.getY() - y;
-        this.angle = Math.toDegrees(Math.atan2(dy, dx));
+    // Drop references so a pooled shell does not keep dead enemies or sold towers alive
+    void clear() {
+        this.active = false;
+        this.target = null;
+        this.sourceTower = null;
+        this.blastCandidates.clear();
+    }
 
-        try {
-            sprite = new Image(getClass().getResourceAsStream("/sprites/projectiles/cannon_projectile.png"));
-        } catch (Exception e) {
-            sprite = null;
-        }
+    // Reference path: full scan of the enemy list, no spatial index
+    public void update(ArrayList<Enemy> allEnemies, double deltaTime) {
+        update(allEnemies, null, deltaTime);
     }
 
-    public void update(ArrayList<Enemy> allEnemies) {
+    public void update(ArrayList<Enemy> allEnemies, EnemySpatialIndex enemyIndex, double deltaTime) {
+        prevX = x;
+        prevY = y;
+
         if (!active || target == null || !target.isAlive()) {
             active = false;
             return;
@@ -57,29 +89,34 @@ public class ExplosiveProjectile {
         double dy = targetY - y;
         double distance = Math.sqrt(dx * dx + dy * dy);
 
-        angle = Math.toDegrees(Math.atan2(dy, dx));
+        double stepDistance = speed * deltaTime;
 
-        if (distance < speed) {
-            explode(allEnemies);
+        if (distance < stepDistance) {
+            explode(allEnemies, enemyIndex);
             active = false;
         } else {
-            x += (dx / distance) * speed;
-            y += (dy / distance) * speed;
+            x += (dx / distance) * stepDistance;
+            y += (dy / distance) * stepDistance;
         }
     }
 
-    private void explode(ArrayList<Enemy> allEnemies) {
+    private void explode(ArrayList<Enemy> allEnemies, EnemySpatialIndex enemyIndex) {
         double impactX = target.getX();
         double impactY = target.getY();
 
-        // Arc system: 20 arcs of 18 degrees each
-        double[] arcDamage = new double[20];
+        // OPTIMIZATION: Only enemies inside the blast radius, in the same order as the full list
+        ArrayList<Enemy> candidates = allEnemies;
+        if (enemyIndex != null) {
+            enemyIndex.query(impactX, impactY, explosionRange * 40, blastCandidates);
+            candidates = blastCandidates;
+        }
+
         for (int i = 0; i < 20; i++) {
             arcDamage[i] = damage;
         }
 
         // Process each enemy in explosion range
-        for (Enemy enemy : allEnemies) {
+        for (Enemy enemy : candidates) {
             if (!enemy.isAlive()) continue;
 
             double dx = enemy.getX() - impactX;
@@ -104,6 +141,10 @@ public class ExplosiveProjectile {
                 int healthBefore = enemy.getHealth();
                 enemy.takeDamage((int) finalDamage);
 
+                if (sourceTower != null) {
+                    sourceTower.addDamageDealt(healthBefore - enemy.getHealth());
+                }
+
                 // Award XP if kill
                 if (!enemy.isAlive() && healthBefore > 0 && sourceTower != null) {
                     sourceTower.addExperience(10);
@@ -120,35 +161,33 @@ public class ExplosiveProjectile {
     }
 
     public void draw(GraphicsContext gc) {
-        if (!active) return;
+        draw(gc, 1.0);
+    }
 
-        if (sprite != null) {
-            double scale = 0.7;
-            double width = sprite.getWidth() * scale;
-            double height = sprite.getHeight() * scale;
+    // alpha blends between the previous and current simulation step
+    public void draw(GraphicsContext gc, double alpha) {
+        if (!active) return;
 
-            gc.save();
-            gc.translate(x, y);
-            gc.rotate(angle);
+        double x = prevX + (this.x - prevX) * alpha;
+        double y = prevY + (this.y - prevY) * alpha;
 
-            gc.drawImage(sprite, -width / 2, -height / 2, width, height);
+        gc.setFill(SHELL_COLOR);
+        gc.fillOval(x - 5, y - 5, 10, 10);
 
-            gc.restore();
-        } else {
-            gc.setFill(Color.rgb(255, 140, 0));
-            gc.fillOval(x - 5, y - 5, 10, 10);
-
-            gc.setEffect(new javafx.scene.effect.DropShadow(
-                    javafx.scene.effect.BlurType.GAUSSIAN,
-                    Color.rgb(255, 100, 0),
-                    8, 0.8, 0, 0
-            ));
-            gc.fillOval(x - 4, y - 4, 8, 8);
-            gc.setEffect(null);
-        }
+        gc.setEffect(SHELL_GLOW);
+        gc.fillOval(x - 4, y - 4, 8, 8);
+        gc.setEffect(null);
     }
 
     public boolean isActive() {
         return active;
     }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
 }
\ No newline at end of file
@@ -1,29 +1,44 @@
 package com.eliemichel.polyfinite.domain.towers;
 
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
 import com.eliemichel.polyfinite.domain.towers.types.Tower;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
 public class Projectile {
 
+    // OPTIMIZATION: One decoded sprite shared by every projectile
+    private static Image sharedSprite;
+    private static boolean spriteLoaded = false;
+
     private double x;
     private double y;
+    private double prevX;
+    private double prevY;
     private Enemy target;
     private double damage;
-    private double speed;
+    private double speed;  // Pixels per second
     private Color color;
     private boolean active;
     private double angle;
-    private Image sprite;
     private Tower sourceTower;
 
-    // OPTIMIZATION: Pre-calculate speed squared threshold
-    private double speedSquared;
-
     public Projectile(double x, double y, Enemy target, double damage, double speed, Color color, Tower sourceTower) {
+        reset(x, y, target, damage, speed, color, sourceTower);
+    }
+
+    // Pooled instances start inactive until ProjectilePool fires them
+    Projectile() {
+        this.active = false;
+    }
+
+    void reset(double x, double y, Enemy target, double damage, double speed, Color color, Tower sourceTower) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.target = target;
         this.damage = damage;
         this.speed = speed;
@@ -31,21 +46,34 @@ public class Projectile {
         this.active = true;
         this.sourceTower = sourceTower;
 
-        // OPTIMIZATION: Pre-calculate squared speed for distance comparison
-        this.speedSquared = speed * speed;
-
         double dx = target.getX() - x;
         double dy = target.getY() - y;
         this.angle = Math.toDegrees(Math.atan2(dy, dx));
+    }
 
-        try {
-            sprite = new Image(getClass().getResourceAsStream("/sprites/projectiles/basic_projectile.png"));
-        } catch (Exception e) {
-            sprite = null;
+    // Drop references so a pooled projectile does not keep dead enemies or sold towers alive
+    void clear() {
+        this.active = false;
+        this.target = null;
+        this.sourceTower = null;
+    }
+
+    private static Image getSprite() {
+        if (!spriteLoaded) {
+            spriteLoaded = true;
+            try {
+                sharedSprite = SpriteRegistry.getInstance().get("projectiles/basic_projectile");
+            } catch (Exception e) {
+                sharedSprite = null;
+            }
         }
+        return sharedSprite;
     }
 
-    public void update() {
+    public void update(double deltaTime) {
+        prevX = x;
+        prevY = y;
+
         if (!active || target == null || !target.isAlive()) {
             active = false;
             return;
@@ -64,15 +92,21 @@ public class Projectile {
         // Update angle
         angle = Math.toDegrees(Math.atan2(dy, dx));
 
+        double stepDistance = speed * deltaTime;
+
         // OPTIMIZATION: Compare squared distances (avoid sqrt)
-        if (distSq < speedSquared) {
+        if (distSq < stepDistance * stepDistance) {
             // Hit the target
             int healthBefore = target.getHealth();
             
             // Pass tower type for quest tracking
-            String towerType = sourceTower != null ? sourceTower.getTowerName().replace(" Tower", "") : null;
+            String towerType = sourceTower != null ? sourceTower.getQuestTowerType() : null;
             target.takeDamage((int) damage, towerType);
 
+            if (sourceTower != null) {
+                sourceTower.addDamageDealt(healthBefore - target.getHealth());
+            }
+
             if (!target.isAlive() && healthBefore > 0 && sourceTower != null) {
                 sourceTower.addExperience(10);
             }
@@ -83,8 +117,8 @@ public class Projectile {
             double distance = Math.sqrt(distSq);
 
             // Calculate movement once
-            double moveX = (dx / distance) * speed;
-            double moveY = (dy / distance) * speed;
+            double moveX = (dx / distance) * stepDistance;
+            double moveY = (dy / distance) * stepDistance;
 
             x += moveX;
             y += moveY;
@@ -92,8 +126,17 @@ public class Projectile {
     }
 
     public void draw(GraphicsContext gc) {
+        draw(gc, 1.0);
+    }
+
+    // alpha blends between the previous and current simulation step
+    public void draw(GraphicsContext gc, double alpha) {
         if (!active) return;
 
+        double x = prevX + (this.x - prevX) * alpha;
+        double y = prevY + (this.y - prevY) * alpha;
+
+        Image sprite = getSprite();
         if (sprite != null) {
             double scale = 0.6;
             double width = sprite.getWidth() * scale;
@@ -130,4 +173,12 @@ public class Projectile {
     public boolean isActive() {
         return active;
     }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.eliemichel.polyfinite.domain.towers;
+
+import com.eliemichel.polyfinite.domain.enemies.Enemy;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.towers.types.Tower;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+
+/**
+ * Recycles Projectile and ExplosiveProjectile instances so that steady-state
+ * firing allocates nothing. Towers fire through the pool; finished shots go
+ * back on a free list instead of becoming garbage.
+ *
+ * The pool flies every shot it hands out, cannon shells included, so a shot
+ * is released (and stops counting as in flight) exactly once, whether or not
+ * the tower that fired it is still around.
+ */
+public class ProjectilePool {
+
+    // Projectiles currently in flight, in firing order
+    private final ArrayList<Projectile> active = new ArrayList<>();
+    private final ArrayList<ExplosiveProjectile> activeExplosives = new ArrayList<>();
+
+    // OPTIMIZATION: Free lists, reused as stacks
+    private final ArrayList<Projectile> free = new ArrayList<>();
+    private final ArrayList<ExplosiveProjectile> freeExplosives = new ArrayList<>();
+
+    private int highWaterMark;
+    private int created;
+
+    public Projectile fire(double x, double y, Enemy target, double damage, double speed,
+                           Color color, Tower sourceTower) {
+        Projectile projectile;
+        if (free.isEmpty()) {
+            projectile = new Projectile();
+            created++;
+        } else {
+            projectile = free.remove(free.size() - 1);
+        }
+
+        projectile.reset(x, y, target, damage, speed, color, sourceTower);
+        active.add(projectile);
+        trackHighWater();
+        return projectile;
+    }
+
+    public ExplosiveProjectile fireExplosive(double x, double y, Enemy target, double damage, double speed,
+                                             Color color, Tower sourceTower, double explosionRange) {
+        ExplosiveProjectile projectile;
+        if (freeExplosives.isEmpty()) {
+            projectile = new ExplosiveProjectile();
+            created++;
+        } else {
+            projectile = freeExplosives.remove(freeExplosives.size() - 1);
+        }
+
+        projectile.reset(x, y, target, damage, speed, color, sourceTower, explosionRange);
+        activeExplosives.add(projectile);
+        trackHighWater();
+        return projectile;
+    }
+
+    // Advances every shot in flight, shells then bullets, and returns finished ones to the free lists
+
+    public void update(double deltaTime, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex) {
+        for (int i = 0; i < activeExplosives.size(); i++) {
+            activeExplosives.get(i).update(enemies, enemyIndex, deltaTime);
+        }
+
+        int keptExplosives = 0;
+        for (int i = 0; i < activeExplosives.size(); i++) {
+            ExplosiveProjectile projectile = activeExplosives.get(i);
+            if (projectile.isActive()) {
+                activeExplosives.set(keptExplosives++, projectile);
+            } else {
+                projectile.clear();
+                freeExplosives.add(projectile);
+            }
+        }
+
+        for (int i = activeExplosives.size() - 1; i >= keptExplosives; i--) {
+            activeExplosives.remove(i);
+        }
+
+        for (int i = active.size() - 1; i >= 0; i--) {
+            active.get(i).update(deltaTime);
+        }
+
+        int kept = 0;
+        for (int i = 0; i < active.size(); i++) {
+            Projectile projectile = active.get(i);
+            if (projectile.isActive()) {
+                active.set(kept++, projectile);
+            } else {
+                projectile.clear();
+                free.add(projectile);
+            }
+        }
+
+        for (int i = active.size() - 1; i >= kept; i--) {
+            active.remove(i);
+        }
+    }
+
+    public ArrayList<Projectile> getActive() {
+        return active;
+    }
+
+    public ArrayList<ExplosiveProjectile> getActiveExplosives() {
+        return activeExplosives;
+    }
+
+    public int getActiveCount() {
+        return active.size() + activeExplosives.size();
+    }
+
+    public int getPooledCount() {
+        return free.size() + freeExplosives.size();
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public int getCreatedCount() {
+        return created;
+    }
+
+    private void trackHighWater() {
+        int inFlight = getActiveCount();
+        if (inFlight > highWaterMark) {
+            highWaterMark = inFlight;
+        }
+    }
+}
@@ -4,11 +4,13 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 
 public class BasicTower extends Tower {
 
     private Image baseImage;
     private Image turretImage;
+    private boolean spritesLoaded = false;
 
     private static final double[][] STATS_TABLE = {
             {2.0, 8.5, 1.25, 90, 2.8},    // MK.0
@@ -31,14 +33,6 @@ public class BasicTower extends Tower {
     public BasicTower(int row, int col, int tileSize) {
         super(row, col, tileSize);
 
-        try {
-            baseImage = new Image(getClass().getResourceAsStream("/sprites/towers/basic_tower_base.png"));
-            turretImage = new Image(getClass().getResourceAsStream("/sprites/towers/basic_tower_turret.png"));
-            System.out.println("Basic tower sprites loaded successfully!");
-        } catch (Exception e) {
-            System.out.println("Error loading tower sprites: " + e.getMessage());
-        }
-
         this.baseColor = Color.rgb(0, 229, 255);
         this.turretColor = Color.rgb(0, 200, 220);
 
@@ -82,11 +76,8 @@ public class BasicTower extends Tower {
     }
 
     @Override
-    public void draw(GraphicsContext gc, boolean showRange) {
-        if (showRange) {
-            drawRange(gc);
-        }
-
+    public void drawBody(GraphicsContext gc) {
+        loadSprites();
         if (baseImage != null && turretImage != null) {
             drawWithSprites(gc);
         } else {
@@ -97,6 +88,15 @@ public class BasicTower extends Tower {
         drawMKLevelIndicator(gc);
     }
 
+    // Sprites are decoded on first draw, so headless simulations never touch image files
+    private void loadSprites() {
+        if (spritesLoaded) return;
+        spritesLoaded = true;
+
+        baseImage = SpriteRegistry.getInstance().get("towers/basic_tower_base");
+        turretImage = SpriteRegistry.getInstance().get("towers/basic_tower_turret");
+    }
+
     private void drawWithSprites(GraphicsContext gc) {
         double scale = 0.2;
 
@@ -1,12 +1,13 @@
 package com.eliemichel.polyfinite.domain.towers.types;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
-import com.eliemichel.polyfinite.domain.towers.ExplosiveProjectile;
-import com.eliemichel.polyfinite.domain.towers.Projectile;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 
 import java.util.ArrayList;
 
@@ -14,7 +15,7 @@ public class CannonTower extends Tower {
 
     private Image baseImage;
     private Image turretImage;
-    private ArrayList<ExplosiveProjectile> explosiveProjectiles;
+    private boolean spritesLoaded = false;
 
     // Stats from table: Range, Damage, AttackSpeed, RotationSpeed, ProjectileSpeed
     private static final double[][] STATS_TABLE = {
@@ -38,16 +39,6 @@ public class CannonTower extends Tower {
     public CannonTower(int row, int col, int tileSize) {
         super(row, col, tileSize);
 
-        this.explosiveProjectiles = new ArrayList<>();
-
-        try {
-            baseImage = new Image(getClass().getResourceAsStream("/sprites/towers/cannon_tower_base.png"));
-            turretImage = new Image(getClass().getResourceAsStream("/sprites/towers/cannon_tower_turret.png"));
-            System.out.println("Cannon tower sprites loaded successfully!");
-        } catch (Exception e) {
-            System.out.println("Error loading cannon tower sprites: " + e.getMessage());
-        }
-
         this.baseColor = Color.rgb(255, 140, 0);
         this.turretColor = Color.rgb(200, 100, 0);
 
@@ -93,17 +84,12 @@ public class CannonTower extends Tower {
     }
 
     @Override
-    public void update(double deltaTime, ArrayList<Enemy> enemies, ArrayList<Projectile> projectiles) {
+    public void update(double deltaTime, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex,
+                       ProjectilePool projectilePool) {
         timeSinceLastShot += deltaTime;
 
-        // Update explosive projectiles
-        explosiveProjectiles.removeIf(p -> !p.isActive());
-        for (ExplosiveProjectile proj : explosiveProjectiles) {
-            proj.update(enemies);
-        }
-
         // Find and shoot at targets
-        currentTarget = findTarget(enemies);
+        currentTarget = enemyIndex != null ? findTarget(enemyIndex) : findTarget(enemies);
 
         if (currentTarget != null) {
             double dx = currentTarget.getX() - x;
@@ -117,7 +103,7 @@ public class CannonTower extends Tower {
         rotateTowardTarget(deltaTime);
 
         if (currentTarget != null && canShoot()) {
-            shootExplosive();
+            shootExplosive(projectilePool);
             timeSinceLastShot = 0;
         }
     }
@@ -152,23 +138,34 @@ public class CannonTower extends Tower {
         return angleDiff < 1.0;
     }
 
-    private void shootExplosive() {
+    private void shootExplosive(ProjectilePool projectilePool) {
         if (currentTarget == null) return;
 
-        ExplosiveProjectile proj = new ExplosiveProjectile(
+        // The pool flies the shell and releases it when it explodes
+        projectilePool.fireExplosive(
                 x, y,
                 currentTarget,
                 getActualDamage(),
-                baseProjectileSpeed,
+                baseProjectileSpeed * PROJECTILE_SPEED_SCALE,
                 Color.rgb(255, 140, 0),
                 this,
                 getExplosionRange()
         );
+    }
 
-        explosiveProjectiles.add(proj);
+    @Override
+    public Enemy findTarget(EnemySpatialIndex enemyIndex) {
+        if (usesPathOrder() && enemyIndex.getProgressIndex() != null) {
+            double radius = baseRange * tileSize;
+            return findTargetOnPath(enemyIndex.getProgressIndex(), radius * radius);
+        }
+
+        enemyIndex.query(x, y, baseRange * tileSize, targetCandidates);
+        return findTarget(targetCandidates);
     }
 
-    private Enemy findTarget(ArrayList<Enemy> enemies) {
+    @Override
+    public Enemy findTarget(ArrayList<Enemy> enemies) {
         Enemy target = null;
 
         for (Enemy enemy : enemies) {
@@ -182,6 +179,15 @@ public class CannonTower extends Tower {
             } else {
                 switch (targetPriority) {
                     case "First":
+                        if (progressOf(enemy) > progressOf(target)) {
+                            target = enemy;
+                        }
+                        break;
+                    case "Last":
+                        if (progressOf(enemy) < progressOf(target)) {
+                            target = enemy;
+                        }
+                        break;
                     case "Closest":
                         if (distance < getDistance(target.getX(), target.getY())) {
                             target = enemy;
@@ -206,17 +212,14 @@ public class CannonTower extends Tower {
     }
 
     @Override
-    public void draw(GraphicsContext gc, boolean showRange) {
-        if (showRange) {
-            drawRange(gc);
-            drawExplosionRange(gc);
-        }
-
-        // Draw explosive projectiles
-        for (ExplosiveProjectile proj : explosiveProjectiles) {
-            proj.draw(gc);
-        }
+    public void drawRangeOverlay(GraphicsContext gc) {
+        drawRange(gc);
+        drawExplosionRange(gc);
+    }
 
+    @Override
+    public void drawBody(GraphicsContext gc) {
+        loadSprites();
         if (baseImage != null && turretImage != null) {
             drawWithSprites(gc);
         } else {
@@ -236,6 +239,14 @@ public class CannonTower extends Tower {
         gc.setLineDashes();
     }
 
+    private void loadSprites() {
+        if (spritesLoaded) return;
+        spritesLoaded = true;
+
+        baseImage = SpriteRegistry.getInstance().get("towers/cannon_tower_base");
+        turretImage = SpriteRegistry.getInstance().get("towers/cannon_tower_turret");
+    }
+
     private void drawWithSprites(GraphicsContext gc) {
         double scale = 0.065;
 
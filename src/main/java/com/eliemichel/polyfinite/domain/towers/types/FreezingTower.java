@@ -1,23 +1,30 @@
 package com.eliemichel.polyfinite.domain.towers.types;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
-import com.eliemichel.polyfinite.domain.towers.Projectile;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 
 public class FreezingTower extends Tower {
 
     private Image baseImage;
     private Image turretImage;
+    private boolean spritesLoaded = false;
 
     // Track which enemies have been slowed (for XP)
     private HashMap<Enemy, Double> enemiesInRange;
 
+    // OPTIMIZATION: Reused every tick instead of allocating a new list
+    private final HashSet<Enemy> currentEnemies = new HashSet<>();
+
     // Freezing-specific stats
     private double freezingPercent;
     private double freezingSpeed;
@@ -41,19 +48,13 @@ public class FreezingTower extends Tower {
             55, 80, 140, 250, 360, 520, 1050, 1500, 2400, 3700
     };
 
+    private static final double SPRITE_SCALE = 0.065;
+
     public FreezingTower(int row, int col, int tileSize) {
         super(row, col, tileSize);
 
         this.enemiesInRange = new HashMap<>();
 
-        try {
-            baseImage = new Image(getClass().getResourceAsStream("/sprites/towers/freezing_tower_base.png"));
-            turretImage = new Image(getClass().getResourceAsStream("/sprites/towers/freezing_tower_turret.png"));
-            System.out.println("Freezing tower sprites loaded successfully!");
-        } catch (Exception e) {
-            System.out.println("Error loading freezing tower sprites: " + e.getMessage());
-        }
-
         this.baseColor = Color.rgb(100, 200, 255);
         this.turretColor = Color.rgb(150, 220, 255);
 
@@ -91,13 +92,21 @@ public class FreezingTower extends Tower {
     }
 
     @Override
-    public void update(double deltaTime, ArrayList<Enemy> enemies, ArrayList<Projectile> projectiles) {
+    public void update(double deltaTime, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex,
+                       ProjectilePool projectilePool) {
         // No projectiles for freezing tower
         // Process all enemies in range
 
-        ArrayList<Enemy> currentEnemies = new ArrayList<>();
+        // OPTIMIZATION: Only visit enemies the spatial index puts in range
+        ArrayList<Enemy> candidates = enemies;
+        if (enemyIndex != null) {
+            enemyIndex.query(x, y, baseRange * tileSize, targetCandidates);
+            candidates = targetCandidates;
+        }
+
+        currentEnemies.clear();
 
-        for (Enemy enemy : enemies) {
+        for (Enemy enemy : candidates) {
             if (!enemy.isAlive()) continue;
 
             double distance = getDistance(enemy.getX(), enemy.getY());
@@ -150,22 +159,29 @@ public class FreezingTower extends Tower {
     }
 
     @Override
-    public void draw(GraphicsContext gc, boolean showRange) {
-        if (showRange) {
-            drawRange(gc);
+    public void drawBody(GraphicsContext gc) {
+        loadSprites();
+        if (baseImage != null && turretImage != null) {
+            drawBaseSprite(gc);
+        } else {
+            drawBase(gc);
         }
 
+        drawMKLevelIndicator(gc);
+    }
+
+    // The turret spins on the wall clock, so it is drawn with the effects rather than the static body
+    @Override
+    public void drawEffects(GraphicsContext gc, double alpha) {
         // Draw freezing effect (animated circles)
         drawFreezingEffect(gc);
 
+        loadSprites();
         if (baseImage != null && turretImage != null) {
-            drawWithSprites(gc);
+            drawTurretSprite(gc);
         } else {
-            drawBase(gc);
             drawTurret(gc);
         }
-
-        drawMKLevelIndicator(gc);
     }
 
     private void drawFreezingEffect(GraphicsContext gc) {
@@ -187,15 +203,24 @@ public class FreezingTower extends Tower {
                 rangePixels * 1.2 * pulse, rangePixels * 1.2 * pulse);
     }
 
-    private void drawWithSprites(GraphicsContext gc) {
-        double scale = 0.065;
+    private void loadSprites() {
+        if (spritesLoaded) return;
+        spritesLoaded = true;
+
+        baseImage = SpriteRegistry.getInstance().get("towers/freezing_tower_base");
+        turretImage = SpriteRegistry.getInstance().get("towers/freezing_tower_turret");
+    }
 
-        double baseWidth = baseImage.getWidth() * scale;
-        double baseHeight = baseImage.getHeight() * scale;
-        double turretWidth = turretImage.getWidth() * scale;
-        double turretHeight = turretImage.getHeight() * scale;
+    private void drawBaseSprite(GraphicsContext gc) {
+        double baseWidth = baseImage.getWidth() * SPRITE_SCALE;
+        double baseHeight = baseImage.getHeight() * SPRITE_SCALE;
 
         gc.drawImage(baseImage, x - baseWidth / 2, y - baseHeight / 2, baseWidth, baseHeight);
+    }
+
+    private void drawTurretSprite(GraphicsContext gc) {
+        double turretWidth = turretImage.getWidth() * SPRITE_SCALE;
+        double turretHeight = turretImage.getHeight() * SPRITE_SCALE;
 
         // Turret rotates slowly for visual effect
         double rotation = (System.currentTimeMillis() / 50.0) % 360;
@@ -1,19 +1,21 @@
 package com.eliemichel.polyfinite.domain.towers.types;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
-import com.eliemichel.polyfinite.domain.towers.Projectile;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.utils.SpriteRegistry;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 public class SniperTower extends Tower {
 
     private Image baseImage;
     private Image turretImage;
+    private boolean spritesLoaded = false;
 
     // Sniper unique mechanics
     private boolean isAiming;
@@ -22,20 +24,9 @@ public class SniperTower extends Tower {
     private double aimingSpeed;
     private Enemy lastTarget;
 
-    private static final Random random = new Random();
-
     public SniperTower(int row, int col, int tileSize) {
         super(row, col, tileSize);
 
-        // Load sprites (SWAPPED - base and turret were backwards!)
-        try {
-            baseImage = new Image(getClass().getResourceAsStream("/sprites/towers/sniper_tower_turret.png"));
-            turretImage = new Image(getClass().getResourceAsStream("/sprites/towers/sniper_tower_base.png"));
-            System.out.println("Sniper tower sprites loaded successfully!");
-        } catch (Exception e) {
-            System.out.println("Error loading sniper tower sprites: " + e.getMessage());
-        }
-
         // Initialize at MK.0 (Upgrade Level 0)
         this.mkLevel = 0;
         updateStatsForMKLevel();
@@ -97,11 +88,12 @@ public class SniperTower extends Tower {
     }
 
     @Override
-    public void update(double deltaTime, ArrayList<Enemy> enemies, ArrayList<Projectile> projectiles) {
+    public void update(double deltaTime, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex,
+                       ProjectilePool projectilePool) {
         timeSinceLastShot += deltaTime;
 
         // Find target based on priority
-        currentTarget = findTarget(enemies);
+        currentTarget = enemyIndex != null ? findTarget(enemyIndex) : findTarget(enemies);
 
         // Check if need to re-aim
         if (currentTarget != lastTarget || currentTarget == null ||
@@ -133,7 +125,9 @@ public class SniperTower extends Tower {
             aimTimer += deltaTime;
 
             // Calculate actual aim time based on aiming speed and nearby enemies
-            double actualAimingSpeed = calculateActualAimingSpeed(enemies);
+            double actualAimingSpeed = enemyIndex != null
+                    ? calculateActualAimingSpeed(enemyIndex)
+                    : calculateActualAimingSpeed(enemies);
             double aimTime = 100.0 / actualAimingSpeed;
 
             if (aimTimer >= aimTime) {
@@ -161,6 +155,14 @@ public class SniperTower extends Tower {
         return angleDiff < 1.0;
     }
 
+    private double calculateActualAimingSpeed(EnemySpatialIndex enemyIndex) {
+        // Count enemies within 1-tile radius of target
+        if (currentTarget == null) return aimingSpeed;
+
+        int nearbyEnemies = enemyIndex.countInRadius(currentTarget.getX(), currentTarget.getY(), tileSize);
+        return applyCrowdPenalty(nearbyEnemies);
+    }
+
     private double calculateActualAimingSpeed(ArrayList<Enemy> enemies) {
         // Count enemies within 1-tile radius of target
         if (currentTarget == null) return aimingSpeed;
@@ -178,6 +180,10 @@ public class SniperTower extends Tower {
             }
         }
 
+        return applyCrowdPenalty(nearbyEnemies);
+    }
+
+    private double applyCrowdPenalty(int nearbyEnemies) {
         // Reduce aiming speed by 4% per nearby enemy (min 15%)
         double reduction = nearbyEnemies * 0.04;
         double actualSpeed = aimingSpeed * (1.0 - reduction);
@@ -236,12 +242,12 @@ public class SniperTower extends Tower {
         double finalDamage = getActualDamage();
         if (isCrit) {
             finalDamage *= (critMultiplier / 100.0);
-            System.out.println("CRIT! " + finalDamage + " damage");
         }
 
         // Deal instant damage (hitscan)
         int healthBefore = currentTarget.getHealth();
         currentTarget.takeDamage((int) finalDamage);
+        addDamageDealt(healthBefore - currentTarget.getHealth());
 
         // Award XP if kill
         if (!currentTarget.isAlive() && healthBefore > 0) {
@@ -283,7 +289,19 @@ public class SniperTower extends Tower {
         return baseMultiplier;
     }
 
-    private Enemy findTarget(ArrayList<Enemy> enemies) {
+    @Override
+    public Enemy findTarget(EnemySpatialIndex enemyIndex) {
+        if (usesPathOrder() && enemyIndex.getProgressIndex() != null) {
+            double radius = baseRange * tileSize;
+            return findTargetOnPath(enemyIndex.getProgressIndex(), radius * radius);
+        }
+
+        enemyIndex.query(x, y, baseRange * tileSize, targetCandidates);
+        return findTarget(targetCandidates);
+    }
+
+    @Override
+    public Enemy findTarget(ArrayList<Enemy> enemies) {
         Enemy target = null;
 
         for (Enemy enemy : enemies) {
@@ -297,6 +315,15 @@ public class SniperTower extends Tower {
             } else {
                 switch (targetPriority) {
                     case "First":
+                        if (progressOf(enemy) > progressOf(target)) {
+                            target = enemy;
+                        }
+                        break;
+                    case "Last":
+                        if (progressOf(enemy) < progressOf(target)) {
+                            target = enemy;
+                        }
+                        break;
                     case "Closest":
                         if (distance < getDistance(target.getX(), target.getY())) {
                             target = enemy;
@@ -321,11 +348,8 @@ public class SniperTower extends Tower {
     }
 
     @Override
-    public void draw(GraphicsContext gc, boolean showRange) {
-        if (showRange) {
-            drawRange(gc);
-        }
-
+    public void drawBody(GraphicsContext gc) {
+        loadSprites();
         if (baseImage != null && turretImage != null) {
             drawWithSprites(gc);
         } else {
@@ -333,12 +357,24 @@ public class SniperTower extends Tower {
             drawTurret(gc);
         }
 
+        drawMKLevelIndicator(gc);
+    }
+
+    @Override
+    public void drawEffects(GraphicsContext gc, double alpha) {
         // Draw aiming indicator
         if (isAiming) {
             drawAimingIndicator(gc);
         }
+    }
 
-        drawMKLevelIndicator(gc);
+    private void loadSprites() {
+        if (spritesLoaded) return;
+        spritesLoaded = true;
+
+        // SWAPPED - base and turret were backwards!
+        baseImage = SpriteRegistry.getInstance().get("towers/sniper_tower_turret");
+        turretImage = SpriteRegistry.getInstance().get("towers/sniper_tower_base");
     }
 
     private void drawWithSprites(GraphicsContext gc) {
@@ -1,10 +1,14 @@
 package com.eliemichel.polyfinite.domain.towers.types;
 
 import com.eliemichel.polyfinite.domain.enemies.Enemy;
-import com.eliemichel.polyfinite.domain.towers.Projectile;
+import com.eliemichel.polyfinite.domain.enemies.EnemySpatialIndex;
+import com.eliemichel.polyfinite.domain.enemies.PathProgressIndex;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import com.eliemichel.polyfinite.domain.progression.ResearchManager;
+import com.eliemichel.polyfinite.infrastructure.telemetry.GameplayEvent;
+import com.eliemichel.polyfinite.utils.SimRandom;
 
 import java.util.ArrayList;
 
@@ -42,6 +46,29 @@ public abstract class Tower {
 
     protected double rangeSquared;
 
+    // Stat tables give projectile speed in pixels per 1/60 s step; projectiles move in pixels per second
+    protected static final double PROJECTILE_SPEED_SCALE = 60.0;
+
+    // Tower name without the " Tower" suffix, as used by quest kill tracking
+    private String questTowerType;
+
+    private long damageDealt;
+
+    // Crit rolls; replaced with a stream of the run seed when placed by GameSimulation
+    protected SimRandom random = new SimRandom();
+
+    // OPTIMIZATION: Reusable candidate list filled from the spatial index
+    protected final ArrayList<Enemy> targetCandidates = new ArrayList<>();
+
+    // Path-progress intervals covered by this tower's range, recomputed when range or level changes
+    private double[] progressIntervals;
+    private double progressIntervalsRadius;
+    private PathProgressIndex progressIntervalsOwner;
+
+    // Turret angle and MK level as last drawn by drawBody, so the renderer can skip unchanged towers
+    private double drawnAngle = Double.NaN;
+    private int drawnMKLevel = -1;
+
     public Tower(int row, int col, int tileSize) {
         this.row = row;
         this.col = col;
@@ -73,6 +100,19 @@ public abstract class Tower {
         this.rangeSquared = rangePixels * rangePixels;
     }
 
+    public void setRandom(SimRandom random) {
+        this.random = random;
+    }
+
+    // Health actually removed from enemies by this tower, for balance reports
+    public void addDamageDealt(int amount) {
+        damageDealt += amount;
+    }
+
+    public long getDamageDealt() {
+        return damageDealt;
+    }
+
     public void addExperience(int xp) {
         double xpMult = ResearchManager.getInstance().getStatMultiplier("GLOBAL_XP");
         int modifiedXp = (int) (xp * xpMult);
@@ -83,7 +123,7 @@ public abstract class Tower {
             experience -= experienceToNextLevel;
             experienceLevel++;
             experienceToNextLevel = calculateXPForNextLevel();
-            System.out.println(getTowerName() + " leveled up to Experience Level " + experienceLevel);
+            GameplayEvent.emit(GameplayEvent.TOWER_LEVELED, getTowerName(), experienceLevel);
         }
     }
 
@@ -113,15 +153,21 @@ public abstract class Tower {
             mkLevel++;
             updateStatsForMKLevel();
             updateRangeSquared();
-            System.out.println(getTowerName() + " upgraded to MK." + mkLevel);
+            GameplayEvent.emit(GameplayEvent.TOWER_UPGRADED, getTowerName(), mkLevel);
         }
     }
 
-    public void update(double deltaTime, ArrayList<Enemy> enemies, ArrayList<Projectile> projectiles) {
+    // Reference path: full scan of the enemy list, no spatial index
+    public void update(double deltaTime, ArrayList<Enemy> enemies, ProjectilePool projectilePool) {
+        update(deltaTime, enemies, null, projectilePool);
+    }
+
+    public void update(double deltaTime, ArrayList<Enemy> enemies, EnemySpatialIndex enemyIndex,
+                       ProjectilePool projectilePool) {
         timeSinceLastShot += deltaTime;
 
         if (currentTarget == null || !currentTarget.isAlive() || !isInRange(currentTarget)) {
-            currentTarget = findTarget(enemies);
+            currentTarget = enemyIndex != null ? findTarget(enemyIndex) : findTarget(enemies);
         }
 
         if (currentTarget != null) {
@@ -136,7 +182,7 @@ public abstract class Tower {
         rotateTowardTarget(deltaTime);
 
         if (currentTarget != null && canShoot()) {
-            shoot(projectiles);
+            shoot(projectilePool);
             timeSinceLastShot = 0;
         }
     }
@@ -176,30 +222,63 @@ public abstract class Tower {
         return angleDiff < 5.0;
     }
 
-    private void shoot(ArrayList<Projectile> projectiles) {
+    private void shoot(ProjectilePool projectilePool) {
         if (currentTarget == null) return;
 
         double damage = getActualDamage();
 
         // Apply Crit if any
         double critChance = baseCritChance + (ResearchManager.getInstance().getStatMultiplier(getTowerID() + "_CRIT") - 1.0);
-        if (Math.random() < critChance) {
+        if (random.nextDouble() < critChance) {
             damage *= baseCritDamage;
         }
 
-        Projectile projectile = new Projectile(
+        projectilePool.fire(
                 x, y,
                 currentTarget,
                 damage,
-                baseProjectileSpeed,
+                baseProjectileSpeed * PROJECTILE_SPEED_SCALE,
                 turretColor,
                 this
         );
+    }
+
+    // Picks a target in range by the current priority; public so benchmarks can time it in isolation
+    public Enemy findTarget(EnemySpatialIndex enemyIndex) {
+        if (usesPathOrder() && enemyIndex.getProgressIndex() != null) {
+            return findTargetOnPath(enemyIndex.getProgressIndex(), rangeSquared);
+        }
+
+        enemyIndex.query(x, y, Math.sqrt(rangeSquared), targetCandidates);
+        return findTarget(targetCandidates);
+    }
 
-        projectiles.add(projectile);
+    protected boolean usesPathOrder() {
+        return targetPriority.equals("First") || targetPriority.equals("Last");
     }
 
-    private Enemy findTarget(ArrayList<Enemy> enemies) {
+    // "First" / "Last": walk only the path segments inside the range, in progress order
+    protected Enemy findTargetOnPath(PathProgressIndex progressIndex, double radiusSq) {
+        double radius = Math.sqrt(radiusSq);
+        if (progressIntervals == null || progressIntervalsOwner != progressIndex || progressIntervalsRadius != radius) {
+            progressIntervals = progressIndex.computeRangeIntervals(x, y, radius);
+            progressIntervalsOwner = progressIndex;
+            progressIntervalsRadius = radius;
+        }
+
+        if (targetPriority.equals("Last")) {
+            return progressIndex.findLast(x, y, radiusSq, progressIntervals);
+        }
+        return progressIndex.findFirst(x, y, radiusSq, progressIntervals);
+    }
+
+    // Path progress at the precision used by PathProgressIndex, so both paths agree on ties
+    protected static float progressOf(Enemy enemy) {
+        return (float) enemy.getPathProgress();
+    }
+
+    // Reference path: full scan of the enemy list; TargetingCheck compares it with the indexed lookup
+    public Enemy findTarget(ArrayList<Enemy> enemies) {
         Enemy target = null;
         double targetDistSq = 0;
 
@@ -221,7 +300,10 @@ public abstract class Tower {
                 target = enemy;
                 targetDistSq = distSq;
             } else {
-                if (targetPriority.equals("First") && distSq < targetDistSq) {
+                if (targetPriority.equals("First") && progressOf(enemy) > progressOf(target)) {
+                    target = enemy;
+                    targetDistSq = distSq;
+                } else if (targetPriority.equals("Last") && progressOf(enemy) < progressOf(target)) {
                     target = enemy;
                     targetDistSq = distSq;
                 } else if (targetPriority.equals("Strongest") && enemy.getHealth() > target.getHealth()) {
@@ -236,7 +318,30 @@ public abstract class Tower {
         return target;
     }
 
-    public abstract void draw(GraphicsContext gc, boolean showRange);
+    /**
+     * The parts of the tower that only change when it is built, upgraded or
+     * turned: base, turret and MK badge. The renderer keeps these on their own
+     * layer and redraws them only when {@link #hasBodyChanged()}.
+     */
+    public abstract void drawBody(GraphicsContext gc);
+
+    // Parts animated every frame (shots, pulses, aiming cones), drawn with the moving entities
+    public void drawEffects(GraphicsContext gc, double alpha) {
+    }
+
+    // Drawn on the highlight layer while the tower is selected
+    public void drawRangeOverlay(GraphicsContext gc) {
+        drawRange(gc);
+    }
+
+    public boolean hasBodyChanged() {
+        return currentAngle != drawnAngle || mkLevel != drawnMKLevel;
+    }
+
+    public void markBodyDrawn() {
+        drawnAngle = currentAngle;
+        drawnMKLevel = mkLevel;
+    }
 
     protected void drawBase(GraphicsContext gc) {
         double size = tileSize * 0.7;
@@ -281,6 +386,13 @@ public abstract class Tower {
     public double getRotationSpeed() { return baseRotationSpeed; }
     public double getProjectileSpeed() { return baseProjectileSpeed; }
 
+    public String getQuestTowerType() {
+        if (questTowerType == null) {
+            questTowerType = getTowerName().replace(" Tower", "");
+        }
+        return questTowerType;
+    }
+
     public String getTargetPriority() { return targetPriority; }
     public void setTargetPriority(String priority) { this.targetPriority = priority; }
 
@@ -0,0 +1,164 @@
+package com.eliemichel.polyfinite.infrastructure.database;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Small pool of MySQL connections shared by every DBConnectMySQL, so saves
+ * and loads skip the TCP and authentication handshake of DriverManager.
+ *
+ * Idle connections are kept most-recently-used first. A connection that sat
+ * idle past the validation interval is pinged before reuse, and one idle past
+ * the idle timeout is closed; both checks happen on borrow and release, so
+ * there is no background thread.
+ */
+public class ConnectionPool {
+
+    private static ConnectionPool instance;
+
+    private final DatabaseConfig config;
+    private final ArrayDeque<PooledConnection> idle = new ArrayDeque<>();
+    private int openCount;
+    private boolean closed;
+    // The first connection is announced; later ones are routine pool growth or replacement
+    private boolean announced;
+
+    private ConnectionPool(DatabaseConfig config) {
+        this.config = config;
+    }
+
+    public static synchronized ConnectionPool getInstance() {
+        if (instance == null) {
+            instance = new ConnectionPool(DatabaseConfig.load());
+        }
+        return instance;
+    }
+
+    /**
+     * Hands out an idle connection or opens a new one, waiting up to the
+     * borrow timeout when all connections are in use.
+     */
+    PooledConnection borrow() throws SQLException {
+        long deadline = System.currentTimeMillis() + config.getBorrowTimeoutMillis();
+
+        while (true) {
+            PooledConnection candidate = null;
+            boolean mayOpen = false;
+
+            synchronized (this) {
+                if (closed) {
+                    throw new SQLException("Connection pool is shut down");
+                }
+                if (!idle.isEmpty()) {
+                    candidate = idle.pop();
+                } else if (openCount < config.getPoolSize()) {
+                    openCount++;
+                    mayOpen = true;
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new SQLException("No database connection available (" + openCount + " in use)");
+                    }
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    }
+                    continue;
+                }
+            }
+
+            if (mayOpen) {
+                return open();
+            }
+
+            // Validate outside the lock, a ping can take a network round-trip
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+    void release(PooledConnection connection) {
+        if (connection.isClosed()) {
+            discard(connection);
+            return;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                openCount--;
+                connection.close();
+                return;
+            }
+            connection.markReleased();
+            idle.push(connection);
+            evictIdle();
+            notifyAll();
+        }
+    }
+
+    // Closes every idle connection; connections still borrowed are closed when released
+    public synchronized void shutdown() {
+        closed = true;
+        for (PooledConnection connection : idle) {
+            connection.close();
+            openCount--;
+        }
+        idle.clear();
+        notifyAll();
+    }
+
+    private PooledConnection open() throws SQLException {
+        try {
+            PooledConnection connection = new PooledConnection(
+                    DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword()),
+                    config.getStatementCacheSize());
+            synchronized (this) {
+                if (!announced) {
+                    announced = true;
+                    System.out.println("Database connected successfully!");
+                }
+            }
+            return connection;
+        } catch (SQLException e) {
+            synchronized (this) {
+                openCount--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isUsable(PooledConnection connection) {
+        long idleMillis = connection.getIdleMillis(System.currentTimeMillis());
+        if (idleMillis > config.getIdleTimeoutMillis()) return false;
+        if (idleMillis > config.getValidationIntervalMillis()) return connection.isValid(2);
+        return !connection.isClosed();
+    }
+
+    private void discard(PooledConnection connection) {
+        connection.close();
+        synchronized (this) {
+            openCount--;
+            notifyAll();
+        }
+    }
+
+    // The least recently used connections sit at the bottom of the stack
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+        while (oldestFirst.hasNext()) {
+            PooledConnection connection = oldestFirst.next();
+            if (connection.getIdleMillis(now) <= config.getIdleTimeoutMillis()) break;
+            oldestFirst.remove();
+            connection.close();
+            openCount--;
+        }
+    }
+}
@@ -1,41 +1,71 @@
 package com.eliemichel.polyfinite.infrastructure.database;
 
+import com.eliemichel.polyfinite.infrastructure.telemetry.DbSaveEvent;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 
+/**
+ * One unit of database work. Borrows a connection from the ConnectionPool on
+ * construction and hands it back in closeConnection(), which callers must
+ * reach on every path (use finally).
+ */
 public class DBConnectMySQL {
-    private Statement stmt;
-    private Connection con;
+    private PooledConnection pooled;
     private boolean isConnected = false;
     private String errorMessage = "";
 
+    // Reported once per outage; the persistence queue retries every few seconds while the database is down
+    private static volatile boolean connectFailureReported;
+
+    // Only set for save connections; committed when the connection is closed
+    private DbSaveEvent saveEvent;
+
     public DBConnectMySQL() {
-        final String DB_HOST = "jdbc:mysql://localhost:3306/polyfinite_game?allowPublicKeyRetrieval=true&useSSL=false";
-        final String DB_USER = "root";
-        final String DB_PWD = "1234";
+        connect();
+    }
+
+    /**
+     * Opens a connection for a save and records it as a Flight Recorder
+     * event spanning connect to closeConnection().
+     */
+    public DBConnectMySQL(String saveOperation) {
+        saveEvent = new DbSaveEvent();
+        saveEvent.begin();
+        connect();
+        saveEvent.operation = saveOperation;
+        saveEvent.connected = isConnected;
+    }
 
+    private void connect() {
         try {
-            con = DriverManager.getConnection(DB_HOST, DB_USER, DB_PWD);
-            stmt = con.createStatement(
-                    ResultSet.TYPE_SCROLL_INSENSITIVE,
-                    ResultSet.CONCUR_READ_ONLY);
+            pooled = ConnectionPool.getInstance().borrow();
             isConnected = true;
-            System.out.println("Database connected successfully!");
+            connectFailureReported = false;
         } catch (SQLException e) {
             isConnected = false;
             errorMessage = e.getMessage();
-            e.printStackTrace();
+            if (!connectFailureReported) {
+                connectFailureReported = true;
+                System.out.println("Cannot connect to database: " + errorMessage);
+            }
         }
     }
 
     public Connection getConnection() {
-        return this.con;
+        return pooled != null ? pooled.getConnection() : null;
     }
-    public Statement getStatement() {
-        return this.stmt;
+
+    /**
+     * Prepared statement for sql, reused across borrows of the same pooled
+     * connection. Do not close it; it belongs to the connection's cache.
+     */
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        if (pooled == null) {
+            throw new SQLException("Database not connected");
+        }
+        return pooled.prepare(sql);
     }
 
     public boolean isConnected() {
@@ -46,12 +76,16 @@ public class DBConnectMySQL {
         return this.errorMessage;
     }
 
+    // Returns the connection to the pool; safe to call more than once
     public void closeConnection() {
-        try {
-            if (stmt != null) stmt.close();
-            if (con != null) con.close();
-        } catch (SQLException e) {
-            e.printStackTrace();
+        if (pooled != null) {
+            ConnectionPool.getInstance().release(pooled);
+            pooled = null;
+        }
+
+        if (saveEvent != null) {
+            saveEvent.commit();
+            saveEvent = null;
         }
     }
-}
\ No newline at end of file
+}
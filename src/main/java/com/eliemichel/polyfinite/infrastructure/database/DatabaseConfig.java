@@ -0,0 +1,72 @@
+package com.eliemichel.polyfinite.infrastructure.database;
+
+/**
+ * Connection settings for the MySQL save database. Defaults match the local
+ * development setup; each value can be overridden with a system property,
+ * e.g. -Dpolyfinite.db.poolSize=8.
+ */
+public class DatabaseConfig {
+
+    // rewriteBatchedStatements turns JDBC batches into multi-row statements (one round-trip)
+    private static final String DEFAULT_URL =
+            "jdbc:mysql://localhost:3306/polyfinite_game?allowPublicKeyRetrieval=true&useSSL=false"
+                    + "&rewriteBatchedStatements=true";
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int poolSize;
+    private final long idleTimeoutMillis;
+    private final long validationIntervalMillis;
+    private final long borrowTimeoutMillis;
+    private final int statementCacheSize;
+
+    private DatabaseConfig() {
+        url = System.getProperty("polyfinite.db.url", DEFAULT_URL);
+        user = System.getProperty("polyfinite.db.user", "root");
+        password = System.getProperty("polyfinite.db.password", "1234");
+        // The FX thread and the persistence writer rarely need more than one each
+        poolSize = Math.max(1, Integer.getInteger("polyfinite.db.poolSize", 4));
+        idleTimeoutMillis = Integer.getInteger("polyfinite.db.idleTimeoutSeconds", 300) * 1000L;
+        // Connections idle for longer than this are pinged before being handed out
+        validationIntervalMillis = Integer.getInteger("polyfinite.db.validationIntervalSeconds", 30) * 1000L;
+        borrowTimeoutMillis = Integer.getInteger("polyfinite.db.borrowTimeoutSeconds", 5) * 1000L;
+        statementCacheSize = Math.max(0, Integer.getInteger("polyfinite.db.statementCacheSize", 32));
+    }
+
+    public static DatabaseConfig load() {
+        return new DatabaseConfig();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+}
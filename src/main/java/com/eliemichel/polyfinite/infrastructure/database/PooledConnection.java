@@ -0,0 +1,92 @@
+package com.eliemichel.polyfinite.infrastructure.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A physical connection owned by the ConnectionPool, with its own cache of
+ * prepared statements keyed by SQL text. Only one borrower uses it at a time.
+ */
+class PooledConnection {
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    private long lastReleasedMillis;
+
+    PooledConnection(Connection connection, int statementCacheSize) {
+        this.connection = connection;
+        // Access-ordered, so the least recently used statement is closed once the cache is full
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= statementCacheSize) return false;
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+        this.lastReleasedMillis = System.currentTimeMillis();
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    // Returns the cached statement for sql with its parameters cleared
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else {
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    long getIdleMillis(long now) {
+        return now - lastReleasedMillis;
+    }
+
+    void markReleased() {
+        lastReleasedMillis = System.currentTimeMillis();
+    }
+
+    boolean isClosed() {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    boolean isValid(int timeoutSeconds) {
+        try {
+            return connection.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void close() {
+        for (PreparedStatement statement : statements.values()) {
+            closeQuietly(statement);
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // Already broken, nothing left to release
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // Closing a statement on a dead connection can fail, the connection is discarded anyway
+        }
+    }
+}
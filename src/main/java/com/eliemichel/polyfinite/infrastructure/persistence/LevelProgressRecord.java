@@ -0,0 +1,41 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+/**
+ * One row of level_progress. When passed to SaveStore.saveLevelProgress it
+ * describes a single run, which the store merges into the best results.
+ */
+public final class LevelProgressRecord {
+    public final int levelNumber;
+    public final int bestWave;
+    public final int bestScore;
+    public final int starsEarned;
+    public final boolean quest1Completed;
+    public final boolean quest2Completed;
+    public final boolean quest3Completed;
+    public final int timesPlayed;
+
+    public LevelProgressRecord(int levelNumber, int bestWave, int bestScore, int starsEarned,
+                               boolean quest1Completed, boolean quest2Completed, boolean quest3Completed,
+                               int timesPlayed) {
+        this.levelNumber = levelNumber;
+        this.bestWave = bestWave;
+        this.bestScore = bestScore;
+        this.starsEarned = starsEarned;
+        this.quest1Completed = quest1Completed;
+        this.quest2Completed = quest2Completed;
+        this.quest3Completed = quest3Completed;
+        this.timesPlayed = timesPlayed;
+    }
+
+    // Same merge as the MySQL upsert: keep the best of each field and count the run
+    public LevelProgressRecord mergeRun(LevelProgressRecord run) {
+        return new LevelProgressRecord(levelNumber,
+                Math.max(bestWave, run.bestWave),
+                Math.max(bestScore, run.bestScore),
+                Math.max(starsEarned, run.starsEarned),
+                quest1Completed || run.quest1Completed,
+                quest2Completed || run.quest2Completed,
+                quest3Completed || run.quest3Completed,
+                timesPlayed + 1);
+    }
+}
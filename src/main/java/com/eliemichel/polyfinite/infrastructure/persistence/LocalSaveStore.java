@@ -0,0 +1,387 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded SaveStore for playing without a MySQL server.
+ *
+ * Everything lives in memory; each save appends one JSON line with the row's
+ * new value to saves/progress.log and flushes it to the OS, so a save costs a
+ * few microseconds and survives the game crashing (not the machine losing power
+ * before the OS writes it out). Replaying the log on startup rebuilds the
+ * maps. When the log holds many stale lines it is compacted into one line per
+ * live row, written to a temporary file and moved over the log atomically.
+ */
+public class LocalSaveStore implements SaveStore {
+
+    private static final String LOG_FILE = "progress.log";
+
+    // Compact once the log has this many times more lines than live rows
+    private static final int COMPACTION_RATIO = 4;
+    private static final int MIN_LINES_BEFORE_COMPACTION = 1000;
+
+    /** One log line. Only the fields of its type are set; level lines also carry the slot row. */
+    private static class Entry {
+        String type;
+        int slot;
+        int level;
+        String key;
+        int value;
+        SaveSlotRecord slotRecord;
+        LevelProgressRecord progress;
+        QuestProgressRecord quest;
+    }
+
+    private static final String SLOT = "slot";
+    private static final String LEVEL = "level";
+    private static final String CURRENCY = "currency";
+    private static final String QUEST = "quest";
+    private static final String RESEARCH = "research";
+
+    private final Gson gson = new Gson();
+    private final Path logFile;
+    private BufferedWriter log;
+    private int logLines;
+
+    private final Map<Integer, SaveSlotRecord> slots = new HashMap<>();
+    private final Map<Integer, Map<Integer, LevelProgressRecord>> levelProgress = new HashMap<>();
+    private final Map<Integer, Map<String, Integer>> currencies = new HashMap<>();
+    private final Map<String, Map<String, QuestProgressRecord>> quests = new HashMap<>();
+    private final Map<Integer, Map<String, Integer>> research = new HashMap<>();
+
+    public LocalSaveStore(Path directory) {
+        this.logFile = directory.resolve(LOG_FILE);
+        try {
+            Files.createDirectories(directory);
+            replay();
+            if (logLines >= MIN_LINES_BEFORE_COMPACTION && logLines > COMPACTION_RATIO * liveRows()) {
+                compact();
+            }
+            openLog();
+        } catch (IOException e) {
+            System.out.println("Cannot open local save store: " + e.getMessage());
+        }
+    }
+
+    // ===== Save slots and level progress =====
+
+    @Override
+    public synchronized SaveSlotRecord loadSlot(int slotNumber) {
+        return slots.get(slotNumber);
+    }
+
+    @Override
+    public synchronized boolean startNewGame(int slotNumber) {
+        SaveSlotRecord previous = slots.get(slotNumber);
+        String playerName = previous != null ? previous.playerName : "Player " + slotNumber;
+        return putSlot(slotNumber, new SaveSlotRecord(playerName, 0, 1, 500));
+    }
+
+    // The level row and the slot's new total share one log line, so replay never sees one without the other
+    @Override
+    public synchronized boolean saveLevelProgress(int slotNumber, LevelProgressRecord run, int totalStars) {
+        LevelProgressRecord previous = levelProgress.getOrDefault(slotNumber, Map.of()).get(run.levelNumber);
+        LevelProgressRecord merged = previous != null ? previous.mergeRun(run)
+                : new LevelProgressRecord(run.levelNumber, run.bestWave, run.bestScore, run.starsEarned,
+                        run.quest1Completed, run.quest2Completed, run.quest3Completed, 1);
+
+        Entry entry = new Entry();
+        entry.type = LEVEL;
+        entry.slot = slotNumber;
+        entry.progress = merged;
+        entry.slotRecord = withTotalStars(slotNumber, totalStars);
+        if (!append(entry)) return false;
+        apply(entry);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean checkTotalStars(int slotNumber) throws IOException {
+        int totalStars = 0;
+        for (LevelProgressRecord progress : levelProgress.getOrDefault(slotNumber, Map.of()).values()) {
+            totalStars += progress.starsEarned;
+        }
+
+        SaveSlotRecord slot = slots.get(slotNumber);
+        if (slot == null || slot.totalStars != totalStars) {
+            System.out.println("Repairing star total of slot " + slotNumber + ": "
+                    + (slot != null ? slot.totalStars : 0) + " -> " + totalStars);
+            Entry entry = new Entry();
+            entry.type = SLOT;
+            entry.slot = slotNumber;
+            entry.slotRecord = withTotalStars(slotNumber, totalStars);
+            appendOrThrow(entry);
+            apply(entry);
+            return true;
+        }
+        return false;
+    }
+
+    private SaveSlotRecord withTotalStars(int slotNumber, int totalStars) {
+        SaveSlotRecord slot = slots.get(slotNumber);
+        return slot != null
+                ? new SaveSlotRecord(slot.playerName, totalStars, slot.currentLevel, slot.gold)
+                : new SaveSlotRecord("Player " + slotNumber, totalStars, 1, 20);
+    }
+
+    @Override
+    public synchronized Map<Integer, LevelProgressRecord> loadLevelProgress(int slotNumber) {
+        return new HashMap<>(levelProgress.getOrDefault(slotNumber, Map.of()));
+    }
+
+    // ===== Currencies, quests and research =====
+
+    @Override
+    public synchronized Map<String, Integer> loadCurrencies(int slotNumber) {
+        return new HashMap<>(currencies.getOrDefault(slotNumber, Map.of()));
+    }
+
+    @Override
+    public synchronized void saveCurrency(int slotNumber, String currencyType, int amount) throws IOException {
+        Entry entry = new Entry();
+        entry.type = CURRENCY;
+        entry.slot = slotNumber;
+        entry.key = currencyType;
+        entry.value = amount;
+        appendOrThrow(entry);
+        apply(entry);
+    }
+
+    @Override
+    public synchronized List<QuestProgressRecord> loadQuestProgress(int slotNumber, int levelNumber) {
+        return new ArrayList<>(quests.getOrDefault(questKey(slotNumber, levelNumber), Map.of()).values());
+    }
+
+    @Override
+    public synchronized void saveQuestProgress(int slotNumber, int levelNumber, List<QuestProgressRecord> rows)
+            throws IOException {
+        for (QuestProgressRecord row : rows) {
+            Entry entry = new Entry();
+            entry.type = QUEST;
+            entry.slot = slotNumber;
+            entry.level = levelNumber;
+            entry.quest = row;
+            appendOrThrow(entry);
+            apply(entry);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Integer> loadResearch(int slotNumber) {
+        return new HashMap<>(research.getOrDefault(slotNumber, Map.of()));
+    }
+
+    @Override
+    public synchronized void saveResearch(int slotNumber, String researchId, int level) throws IOException {
+        Entry entry = new Entry();
+        entry.type = RESEARCH;
+        entry.slot = slotNumber;
+        entry.key = researchId;
+        entry.value = level;
+        appendOrThrow(entry);
+        apply(entry);
+    }
+
+    @Override
+    public synchronized SaveSnapshot loadSnapshot(int slotNumber) {
+        Map<Integer, List<QuestProgressRecord>> questsByLevel = new HashMap<>();
+        String prefix = slotNumber + ":";
+        quests.forEach((key, rows) -> {
+            if (key.startsWith(prefix)) {
+                questsByLevel.put(Integer.parseInt(key.substring(prefix.length())), new ArrayList<>(rows.values()));
+            }
+        });
+        return new SaveSnapshot(slotNumber, slots.get(slotNumber), loadCurrencies(slotNumber),
+                loadResearch(slotNumber), loadLevelProgress(slotNumber), questsByLevel);
+    }
+
+    // Compacts on the way out so the next start replays one line per row
+    @Override
+    public synchronized void close() {
+        try {
+            closeLog();
+            if (logLines > liveRows()) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.out.println("Error compacting local save store: " + e.getMessage());
+        }
+    }
+
+    // ===== Log =====
+
+    private boolean putSlot(int slotNumber, SaveSlotRecord record) {
+        Entry entry = new Entry();
+        entry.type = SLOT;
+        entry.slot = slotNumber;
+        entry.slotRecord = record;
+        if (!append(entry)) return false;
+        apply(entry);
+        return true;
+    }
+
+    private boolean append(Entry entry) {
+        try {
+            appendOrThrow(entry);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error writing local save: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void appendOrThrow(Entry entry) throws IOException {
+        if (log == null) {
+            throw new IOException("Local save store is not open");
+        }
+        log.write(gson.toJson(entry));
+        log.newLine();
+        log.flush();
+        logLines++;
+    }
+
+    private void apply(Entry entry) {
+        switch (entry.type) {
+            case SLOT:
+                slots.put(entry.slot, entry.slotRecord);
+                break;
+            case LEVEL:
+                levelProgress.computeIfAbsent(entry.slot, k -> new HashMap<>())
+                        .put(entry.progress.levelNumber, entry.progress);
+                if (entry.slotRecord != null) {
+                    slots.put(entry.slot, entry.slotRecord);
+                }
+                break;
+            case CURRENCY:
+                currencies.computeIfAbsent(entry.slot, k -> new HashMap<>()).put(entry.key, entry.value);
+                break;
+            case QUEST:
+                quests.computeIfAbsent(questKey(entry.slot, entry.level), k -> new LinkedHashMap<>())
+                        .put(entry.quest.questId, entry.quest);
+                break;
+            case RESEARCH:
+                research.computeIfAbsent(entry.slot, k -> new HashMap<>()).put(entry.key, entry.value);
+                break;
+            default:
+                System.out.println("Skipping unknown save entry: " + entry.type);
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(logFile)) return;
+
+        try (BufferedReader reader = Files.newBufferedReader(logFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                logLines++;
+                try {
+                    Entry entry = gson.fromJson(line, Entry.class);
+                    if (entry != null && entry.type != null) {
+                        apply(entry);
+                    }
+                } catch (JsonParseException e) {
+                    // A line cut short by a crash; later lines still apply
+                    System.out.println("Skipping damaged save entry at line " + logLines);
+                }
+            }
+        }
+    }
+
+    private void compact() throws IOException {
+        Path temp = logFile.resolveSibling(LOG_FILE + ".tmp");
+        int lines = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(temp)) {
+            for (Entry entry : liveEntries()) {
+                out.write(gson.toJson(entry));
+                out.newLine();
+                lines++;
+            }
+        }
+        Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logLines = lines;
+    }
+
+    private List<Entry> liveEntries() {
+        List<Entry> entries = new ArrayList<>();
+        slots.forEach((slot, record) -> {
+            Entry entry = new Entry();
+            entry.type = SLOT;
+            entry.slot = slot;
+            entry.slotRecord = record;
+            entries.add(entry);
+        });
+        levelProgress.forEach((slot, levels) -> levels.values().forEach(progress -> {
+            Entry entry = new Entry();
+            entry.type = LEVEL;
+            entry.slot = slot;
+            entry.progress = progress;
+            entries.add(entry);
+        }));
+        addValueEntries(entries, CURRENCY, currencies);
+        addValueEntries(entries, RESEARCH, research);
+        quests.forEach((key, rows) -> {
+            int separator = key.indexOf(':');
+            int slot = Integer.parseInt(key.substring(0, separator));
+            int level = Integer.parseInt(key.substring(separator + 1));
+            rows.values().forEach(row -> {
+                Entry entry = new Entry();
+                entry.type = QUEST;
+                entry.slot = slot;
+                entry.level = level;
+                entry.quest = row;
+                entries.add(entry);
+            });
+        });
+        return entries;
+    }
+
+    private static void addValueEntries(List<Entry> entries, String type, Map<Integer, Map<String, Integer>> values) {
+        values.forEach((slot, byKey) -> byKey.forEach((key, value) -> {
+            Entry entry = new Entry();
+            entry.type = type;
+            entry.slot = slot;
+            entry.key = key;
+            entry.value = value;
+            entries.add(entry);
+        }));
+    }
+
+    private int liveRows() {
+        int rows = slots.size();
+        for (Map<Integer, LevelProgressRecord> levels : levelProgress.values()) rows += levels.size();
+        for (Map<String, Integer> values : currencies.values()) rows += values.size();
+        for (Map<String, QuestProgressRecord> values : quests.values()) rows += values.size();
+        for (Map<String, Integer> values : research.values()) rows += values.size();
+        return rows;
+    }
+
+    private void openLog() throws IOException {
+        log = Files.newBufferedWriter(logFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void closeLog() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+
+    private static String questKey(int slotNumber, int levelNumber) {
+        return slotNumber + ":" + levelNumber;
+    }
+}
@@ -0,0 +1,462 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import com.eliemichel.polyfinite.infrastructure.database.ConnectionPool;
+import com.eliemichel.polyfinite.infrastructure.database.DBConnectMySQL;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SaveStore backed by the polyfinite_game MySQL database, through the
+ * ConnectionPool. Schema: database_schema_update.sql plus the save_slots,
+ * level_progress and player_research tables.
+ */
+public class MySqlSaveStore implements SaveStore {
+
+    @Override
+    public SaveSlotRecord loadSlot(int slotNumber) {
+        DBConnectMySQL connector = new DBConnectMySQL();
+        if (!connector.isConnected()) {
+            System.out.println("Cannot load save slot - database not connected");
+            return null;
+        }
+
+        try {
+            PreparedStatement stmt = connector.prepareStatement(
+                    "SELECT player_name, total_stars, current_level, gold FROM save_slots WHERE slot_number = ?");
+            stmt.setInt(1, slotNumber);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) return null;
+                return new SaveSlotRecord(rs.getString("player_name"), rs.getInt("total_stars"),
+                        rs.getInt("current_level"), rs.getInt("gold"));
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading save slot: " + e.getMessage());
+            return null;
+        } finally {
+            connector.closeConnection();
+        }
+    }
+
+    @Override
+    public boolean startNewGame(int slotNumber) {
+        DBConnectMySQL connector = new DBConnectMySQL("save_slots");
+        if (!connector.isConnected()) {
+            connector.closeConnection();
+            return false;
+        }
+
+        try {
+            PreparedStatement stmt = connector.prepareStatement(
+                    "UPDATE save_slots SET total_stars = 0, current_level = 1, gold = 500 WHERE slot_number = ?");
+            stmt.setInt(1, slotNumber);
+            stmt.executeUpdate();
+            return true;
+        } catch (Exception e) {
+            System.out.println("Error starting new game: " + e.getMessage());
+            return false;
+        } finally {
+            connector.closeConnection();
+        }
+    }
+
+    /**
+     * OPTIMIZATION: The caller keeps the star total up to date from the stars delta, so the
+     * save is the level upsert plus one UPDATE of the total, committed together, instead of
+     * also re-summing every level_progress row of the slot on each level end.
+     */
+    @Override
+    public boolean saveLevelProgress(int slotNumber, LevelProgressRecord run, int totalStars) {
+        DBConnectMySQL connector = new DBConnectMySQL("level_progress");
+        if (!connector.isConnected()) {
+            System.out.println("Cannot save progress - database not connected");
+            connector.closeConnection();
+            return false;
+        }
+
+        Connection connection = connector.getConnection();
+        try {
+            connection.setAutoCommit(false);
+
+            PreparedStatement upsert = connector.prepareStatement("INSERT INTO level_progress " +
+                    "(save_slot_id, level_number, best_wave, best_score, quest_1_completed, quest_2_completed, quest_3_completed, stars_earned, times_played) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1) " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "best_wave = GREATEST(best_wave, VALUES(best_wave)), " +
+                    "best_score = GREATEST(best_score, VALUES(best_score)), " +
+                    "quest_1_completed = quest_1_completed OR VALUES(quest_1_completed), " +
+                    "quest_2_completed = quest_2_completed OR VALUES(quest_2_completed), " +
+                    "quest_3_completed = quest_3_completed OR VALUES(quest_3_completed), " +
+                    "stars_earned = GREATEST(stars_earned, VALUES(stars_earned)), " +
+                    "times_played = times_played + 1");
+            upsert.setInt(1, slotNumber);
+            upsert.setInt(2, run.levelNumber);
+            upsert.setInt(3, run.bestWave);
+            upsert.setInt(4, run.bestScore);
+            upsert.setBoolean(5, run.quest1Completed);
+            upsert.setBoolean(6, run.quest2Completed);
+            upsert.setBoolean(7, run.quest3Completed);
+            upsert.setInt(8, run.starsEarned);
+            upsert.executeUpdate();
+
+            PreparedStatement updateSlot = connector.prepareStatement(
+                    "UPDATE save_slots SET total_stars = ? WHERE slot_number = ?");
+            updateSlot.setInt(1, totalStars);
+            updateSlot.setInt(2, slotNumber);
+            updateSlot.executeUpdate();
+
+            connection.commit();
+            return true;
+
+        } catch (Exception e) {
+            System.out.println("Error saving level progress: " + e.getMessage());
+            rollback(connection);
+            return false;
+        } finally {
+            restoreAutoCommit(connection);
+            connector.closeConnection();
+        }
+    }
+
+    // One statement, so a level save committing meanwhile cannot be overwritten with a stale sum
+    @Override
+    public boolean checkTotalStars(int slotNumber) throws SQLException {
+        DBConnectMySQL db = connectForWrite("save_slots");
+        try {
+            PreparedStatement repair = db.prepareStatement(
+                    "UPDATE save_slots s " +
+                    "JOIN (SELECT COALESCE(SUM(stars_earned), 0) AS total FROM level_progress WHERE save_slot_id = ?) p " +
+                    "SET s.total_stars = p.total WHERE s.slot_number = ? AND s.total_stars <> p.total");
+            repair.setInt(1, slotNumber);
+            repair.setInt(2, slotNumber);
+            boolean repaired = repair.executeUpdate() > 0;
+            if (repaired) {
+                System.out.println("Repaired star total of slot " + slotNumber);
+            }
+            return repaired;
+        } finally {
+            db.closeConnection();
+        }
+    }
+
+    @Override
+    public Map<Integer, LevelProgressRecord> loadLevelProgress(int slotNumber) {
+        Map<Integer, LevelProgressRecord> progress = new HashMap<>();
+
+        DBConnectMySQL connector = new DBConnectMySQL();
+        if (!connector.isConnected()) {
+            System.out.println("Cannot load level progress - database not connected");
+            return progress;
+        }
+
+        try {
+            PreparedStatement stmt = connector.prepareStatement(
+                    "SELECT level_number, best_wave, best_score, stars_earned, quest_1_completed, quest_2_completed, " +
+                    "quest_3_completed, times_played FROM level_progress WHERE save_slot_id = ?");
+            stmt.setInt(1, slotNumber);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int levelNumber = rs.getInt("level_number");
+                    progress.put(levelNumber, new LevelProgressRecord(levelNumber, rs.getInt("best_wave"),
+                            rs.getInt("best_score"), rs.getInt("stars_earned"),
+                            rs.getBoolean("quest_1_completed"), rs.getBoolean("quest_2_completed"),
+                            rs.getBoolean("quest_3_completed"), rs.getInt("times_played")));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading level progress: " + e.getMessage());
+        } finally {
+            connector.closeConnection();
+        }
+        return progress;
+    }
+
+    @Override
+    public Map<String, Integer> loadCurrencies(int slotNumber) {
+        Map<String, Integer> currencies = new HashMap<>();
+
+        DBConnectMySQL db = new DBConnectMySQL();
+        if (!db.isConnected()) {
+            System.out.println("Cannot load currencies - database not connected");
+            return currencies;
+        }
+
+        try {
+            PreparedStatement stmt = db.prepareStatement(
+                    "SELECT currency_type, amount FROM player_currencies WHERE save_slot_id = ?");
+            stmt.setInt(1, slotNumber);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    currencies.put(rs.getString("currency_type"), rs.getInt("amount"));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading currencies: " + e.getMessage());
+        } finally {
+            db.closeConnection();
+        }
+        return currencies;
+    }
+
+    @Override
+    public void saveCurrency(int slotNumber, String currencyType, int amount) throws SQLException {
+        DBConnectMySQL db = connectForWrite("player_currencies");
+        try {
+            // Check if record exists
+            PreparedStatement check = db.prepareStatement(
+                    "SELECT id FROM player_currencies WHERE save_slot_id = ? AND currency_type = ?");
+            check.setInt(1, slotNumber);
+            check.setString(2, currencyType);
+
+            boolean exists;
+            try (ResultSet rs = check.executeQuery()) {
+                exists = rs.next();
+            }
+
+            if (exists) {
+                PreparedStatement update = db.prepareStatement(
+                        "UPDATE player_currencies SET amount = ? WHERE save_slot_id = ? AND currency_type = ?");
+                update.setInt(1, amount);
+                update.setInt(2, slotNumber);
+                update.setString(3, currencyType);
+                update.executeUpdate();
+            } else {
+                PreparedStatement insert = db.prepareStatement(
+                        "INSERT INTO player_currencies (save_slot_id, currency_type, amount) VALUES (?, ?, ?)");
+                insert.setInt(1, slotNumber);
+                insert.setString(2, currencyType);
+                insert.setInt(3, amount);
+                insert.executeUpdate();
+            }
+        } finally {
+            db.closeConnection();
+        }
+    }
+
+    @Override
+    public List<QuestProgressRecord> loadQuestProgress(int slotNumber, int levelNumber) {
+        List<QuestProgressRecord> rows = new ArrayList<>();
+
+        DBConnectMySQL db = new DBConnectMySQL();
+        if (!db.isConnected()) {
+            System.out.println("Cannot load quest progress - database not connected");
+            return rows;
+        }
+
+        try {
+            PreparedStatement stmt = db.prepareStatement(
+                    "SELECT quest_id, current_progress, completed, reward_granted " +
+                    "FROM quest_progress WHERE save_slot_id = ? AND level_number = ?");
+            stmt.setInt(1, slotNumber);
+            stmt.setInt(2, levelNumber);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new QuestProgressRecord(rs.getString("quest_id"), rs.getInt("current_progress"),
+                            rs.getBoolean("completed"), rs.getBoolean("reward_granted")));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading quest progress: " + e.getMessage());
+        } finally {
+            db.closeConnection();
+        }
+        return rows;
+    }
+
+    /**
+     * OPTIMIZATION: One batched upsert on the unique_quest key instead of a SELECT plus an
+     * UPDATE or INSERT per quest. With rewriteBatchedStatements the driver sends the batch
+     * as a single multi-row INSERT, so the save is one round-trip whatever the quest count.
+     */
+    @Override
+    public void saveQuestProgress(int slotNumber, int levelNumber, List<QuestProgressRecord> rows) throws SQLException {
+        DBConnectMySQL db = connectForWrite("quest_progress");
+        try {
+            PreparedStatement upsert = db.prepareStatement(
+                    "INSERT INTO quest_progress " +
+                    "(save_slot_id, level_number, quest_id, current_progress, completed, reward_granted) " +
+                    "VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE current_progress = VALUES(current_progress), " +
+                    "completed = VALUES(completed), reward_granted = VALUES(reward_granted)");
+
+            for (QuestProgressRecord row : rows) {
+                upsert.setInt(1, slotNumber);
+                upsert.setInt(2, levelNumber);
+                upsert.setString(3, row.questId);
+                upsert.setInt(4, row.progress);
+                upsert.setBoolean(5, row.completed);
+                upsert.setBoolean(6, row.rewardGranted);
+                upsert.addBatch();
+            }
+            upsert.executeBatch();
+        } finally {
+            db.closeConnection();
+        }
+    }
+
+    @Override
+    public Map<String, Integer> loadResearch(int slotNumber) {
+        Map<String, Integer> levels = new HashMap<>();
+
+        DBConnectMySQL db = new DBConnectMySQL();
+        if (!db.isConnected()) {
+            return levels;
+        }
+
+        try {
+            PreparedStatement stmt = db.prepareStatement(
+                    "SELECT research_id, current_level FROM player_research WHERE save_slot_id = ?");
+            stmt.setInt(1, slotNumber);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    levels.put(rs.getString("research_id"), rs.getInt("current_level"));
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading research: " + e.getMessage());
+        } finally {
+            db.closeConnection();
+        }
+        return levels;
+    }
+
+    @Override
+    public void saveResearch(int slotNumber, String researchId, int level) throws SQLException {
+        DBConnectMySQL db = connectForWrite("player_research");
+        try {
+            PreparedStatement stmt = db.prepareStatement(
+                    "INSERT INTO player_research (save_slot_id, research_id, current_level) " +
+                    "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE current_level = ?");
+            stmt.setInt(1, slotNumber);
+            stmt.setString(2, researchId);
+            stmt.setInt(3, level);
+            stmt.setInt(4, level);
+            stmt.executeUpdate();
+        } finally {
+            db.closeConnection();
+        }
+    }
+
+    /**
+     * OPTIMIZATION: The five per-table loads folded into one UNION ALL, so opening a slot
+     * costs a single round-trip on one connection. Each row is tagged with its table and
+     * carries its values in the generic v1..v7 columns, in the order listed per branch.
+     */
+    private static final String SNAPSHOT_QUERY =
+            "SELECT 'slot' AS kind, 0 AS level_number, player_name AS name, " +
+            "total_stars AS v1, current_level AS v2, gold AS v3, 0 AS v4, 0 AS v5, 0 AS v6, 0 AS v7 " +
+            "FROM save_slots WHERE slot_number = ? " +
+            "UNION ALL SELECT 'currency', 0, currency_type, amount, 0, 0, 0, 0, 0, 0 " +
+            "FROM player_currencies WHERE save_slot_id = ? " +
+            "UNION ALL SELECT 'research', 0, research_id, current_level, 0, 0, 0, 0, 0, 0 " +
+            "FROM player_research WHERE save_slot_id = ? " +
+            "UNION ALL SELECT 'level', level_number, NULL, best_wave, best_score, stars_earned, " +
+            "quest_1_completed, quest_2_completed, quest_3_completed, times_played " +
+            "FROM level_progress WHERE save_slot_id = ? " +
+            "UNION ALL SELECT 'quest', level_number, quest_id, current_progress, completed, reward_granted, 0, 0, 0, 0 " +
+            "FROM quest_progress WHERE save_slot_id = ?";
+
+    @Override
+    public SaveSnapshot loadSnapshot(int slotNumber) {
+        SaveSnapshot snapshot = SaveSnapshot.empty(slotNumber);
+
+        DBConnectMySQL db = new DBConnectMySQL();
+        if (!db.isConnected()) {
+            System.out.println("Cannot load save slot " + slotNumber + " - database not connected");
+            return snapshot;
+        }
+
+        SaveSlotRecord slot = null;
+        try {
+            PreparedStatement stmt = db.prepareStatement(SNAPSHOT_QUERY);
+            for (int i = 1; i <= 5; i++) {
+                stmt.setInt(i, slotNumber);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String kind = rs.getString("kind");
+                    int levelNumber = rs.getInt("level_number");
+                    String name = rs.getString("name");
+
+                    switch (kind) {
+                        case "slot":
+                            slot = new SaveSlotRecord(name, rs.getInt("v1"), rs.getInt("v2"), rs.getInt("v3"));
+                            break;
+                        case "currency":
+                            snapshot.currencies.put(name, rs.getInt("v1"));
+                            break;
+                        case "research":
+                            snapshot.research.put(name, rs.getInt("v1"));
+                            break;
+                        case "level":
+                            snapshot.levelProgress.put(levelNumber, new LevelProgressRecord(levelNumber,
+                                    rs.getInt("v1"), rs.getInt("v2"), rs.getInt("v3"),
+                                    rs.getInt("v4") != 0, rs.getInt("v5") != 0, rs.getInt("v6") != 0,
+                                    rs.getInt("v7")));
+                            break;
+                        case "quest":
+                            snapshot.questProgress.computeIfAbsent(levelNumber, k -> new ArrayList<>())
+                                    .add(new QuestProgressRecord(name, rs.getInt("v1"),
+                                            rs.getInt("v2") != 0, rs.getInt("v3") != 0));
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error loading save slot " + slotNumber + ": " + e.getMessage());
+        } finally {
+            db.closeConnection();
+        }
+
+        return new SaveSnapshot(slotNumber, slot, snapshot.currencies, snapshot.research,
+                snapshot.levelProgress, snapshot.questProgress);
+    }
+
+    @Override
+    public void close() {
+        ConnectionPool.getInstance().shutdown();
+    }
+
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            System.out.println("Error rolling back: " + e.getMessage());
+        }
+    }
+
+    // Pooled connections go back in autocommit mode
+    private static void restoreAutoCommit(Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.out.println("Error restoring autocommit: " + e.getMessage());
+        }
+    }
+
+    // A transient exception tells the PersistenceQueue to keep the write for the next flush, like a lost connection or deadlock mid-write
+    private static DBConnectMySQL connectForWrite(String operation) throws SQLTransientConnectionException {
+        DBConnectMySQL db = new DBConnectMySQL(operation);
+        if (!db.isConnected()) {
+            String message = db.getErrorMessage();
+            db.closeConnection();
+            throw new SQLTransientConnectionException("Database not connected: " + message);
+        }
+        return db;
+    }
+}
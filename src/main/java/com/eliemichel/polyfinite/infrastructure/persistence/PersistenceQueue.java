@@ -0,0 +1,170 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Write-behind queue for player progress (currencies, quests, research) and
+ * the background star-total check.
+ *
+ * Callers enqueue a write under a key naming the row it updates; a newer
+ * write for the same key replaces the pending one, so fifty gold drops in a
+ * second become a single UPDATE. Pending writes are flushed to the SaveStore
+ * on a background thread: every few seconds, when a level ends, and on
+ * shutdown. Writes must capture the values they save when they are
+ * enqueued, since they run off the FX thread.
+ *
+ * A write that fails with a transient or recoverable SQLException (no
+ * connection, lost socket, deadlock, lock timeout) is kept with the rest of
+ * its batch and retried on the next flush. Only writes that fail for any
+ * other reason are dropped.
+ */
+public class PersistenceQueue {
+
+    /** One pending row write, run on the writer thread. */
+    public interface PendingWrite {
+        void write(SaveStore store) throws Exception;
+    }
+
+    private static final long FLUSH_INTERVAL_SECONDS = 2;
+    private static final long FLUSH_WAIT_SECONDS = 5;
+
+    private static PersistenceQueue instance;
+
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService writer;
+    // Writer thread only; set while the store keeps failing, so an outage is reported once
+    private boolean retrying;
+
+    private PersistenceQueue() {
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushPending, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static synchronized PersistenceQueue getInstance() {
+        if (instance == null) {
+            instance = new PersistenceQueue();
+        }
+        return instance;
+    }
+
+    // Replaces any write still pending under the same key
+    public void enqueue(String key, PendingWrite write) {
+        synchronized (pending) {
+            pending.put(key, write);
+        }
+    }
+
+    /** Starts a flush in the background without waiting for it. */
+    public void flush() {
+        if (!writer.isShutdown()) {
+            writer.execute(this::flushPending);
+        }
+    }
+
+    /**
+     * Flushes and blocks until the writes are done. Used before reading rows
+     * back from the database, so a load never sees older values than memory.
+     */
+    public void flushAndWait() {
+        if (writer.isShutdown()) return;
+
+        try {
+            writer.submit(this::flushPending).get(FLUSH_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.out.println("Persistence flush did not complete: " + e);
+        }
+    }
+
+    // Called when the application exits
+    public void shutdown() {
+        flushAndWait();
+        writer.shutdown();
+        synchronized (pending) {
+            if (!pending.isEmpty()) {
+                System.out.println("Exiting with " + pending.size() + " unsaved writes: " + pending.keySet());
+            }
+        }
+    }
+
+    // Runs on the writer thread only, so flushes never overlap
+    private void flushPending() {
+        Map<String, PendingWrite> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+
+        SaveStore store = SaveStores.get();
+        int total = batch.size();
+        int failed = 0;
+        Iterator<Map.Entry<String, PendingWrite>> writes = batch.entrySet().iterator();
+        while (writes.hasNext()) {
+            Map.Entry<String, PendingWrite> entry = writes.next();
+            try {
+                entry.getValue().write(store);
+                writes.remove();
+            } catch (Exception e) {
+                if (!isRetryable(e)) {
+                    failed++;
+                    writes.remove();
+                    System.out.println("Error saving " + entry.getKey() + ": " + e.getMessage());
+                    continue;
+                }
+
+                // Keep this and the remaining writes for the next flush, unless a newer value was queued meanwhile
+                synchronized (pending) {
+                    for (Map.Entry<String, PendingWrite> unsaved : batch.entrySet()) {
+                        pending.putIfAbsent(unsaved.getKey(), unsaved.getValue());
+                    }
+                }
+                if (!retrying) {
+                    retrying = true;
+                    System.out.println("Cannot flush " + batch.size() + " of " + total
+                            + " pending saves, retrying until the database is back - " + e.getMessage());
+                }
+                return;
+            }
+        }
+
+        if (retrying) {
+            retrying = false;
+            System.out.println("Pending saves flushed after retrying");
+        }
+        if (failed > 0) {
+            System.out.println("Dropped " + failed + " of " + total + " pending saves");
+        }
+    }
+
+    // A batched upsert reports a deadlock as a BatchUpdateException wrapping the real cause
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                SQLException next = ((SQLException) cause).getNextException();
+                if (next != null && next != cause && isRetryable(next)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+/** One row of quest_progress, captured on the FX thread for the background writer. */
+public final class QuestProgressRecord {
+    public final String questId;
+    public final int progress;
+    public final boolean completed;
+    public final boolean rewardGranted;
+
+    public QuestProgressRecord(String questId, int progress, boolean completed, boolean rewardGranted) {
+        this.questId = questId;
+        this.progress = progress;
+        this.completed = completed;
+        this.rewardGranted = rewardGranted;
+    }
+}
@@ -0,0 +1,16 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+/** One row of save_slots. */
+public final class SaveSlotRecord {
+    public final String playerName;
+    public final int totalStars;
+    public final int currentLevel;
+    public final int gold;
+
+    public SaveSlotRecord(String playerName, int totalStars, int currentLevel, int gold) {
+        this.playerName = playerName;
+        this.totalStars = totalStars;
+        this.currentLevel = currentLevel;
+        this.gold = gold;
+    }
+}
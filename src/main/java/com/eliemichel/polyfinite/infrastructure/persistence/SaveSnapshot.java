@@ -0,0 +1,35 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the game reads for one save slot when it is opened: the slot row,
+ * currencies, research levels, level progress and quest progress of every
+ * level. Loaded in one go by SaveStore.loadSnapshot.
+ */
+public final class SaveSnapshot {
+    public final int slotNumber;
+    /** Null when the slot has no row (or the store was unreachable). */
+    public final SaveSlotRecord slot;
+    public final Map<String, Integer> currencies;
+    public final Map<String, Integer> research;
+    public final Map<Integer, LevelProgressRecord> levelProgress;
+    /** Quest rows keyed by level number. */
+    public final Map<Integer, List<QuestProgressRecord>> questProgress;
+
+    SaveSnapshot(int slotNumber, SaveSlotRecord slot, Map<String, Integer> currencies, Map<String, Integer> research,
+                 Map<Integer, LevelProgressRecord> levelProgress, Map<Integer, List<QuestProgressRecord>> questProgress) {
+        this.slotNumber = slotNumber;
+        this.slot = slot;
+        this.currencies = currencies;
+        this.research = research;
+        this.levelProgress = levelProgress;
+        this.questProgress = questProgress;
+    }
+
+    static SaveSnapshot empty(int slotNumber) {
+        return new SaveSnapshot(slotNumber, null, new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+}
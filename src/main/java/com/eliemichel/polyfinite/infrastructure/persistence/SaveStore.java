@@ -0,0 +1,60 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where player progress is kept. Loads report problems on the console and
+ * return empty results, like the game always did when MySQL was down.
+ * Writes used by the PersistenceQueue throw instead, so the queue can keep
+ * them for a retry; synchronous saves report failure through their result.
+ *
+ * Implementations must be safe to call from the FX thread and the
+ * persistence writer thread at the same time.
+ */
+public interface SaveStore {
+
+    /** The slot's row, or null when it has none (or the store is unreachable). */
+    SaveSlotRecord loadSlot(int slotNumber);
+
+    /** Resets stars, level and gold of the slot; returns false if nothing was saved. */
+    boolean startNewGame(int slotNumber);
+
+    /**
+     * Merges one run into the level's best results and stores the slot's new
+     * star total, kept by the caller, in the same transaction. Returns false
+     * if nothing was saved.
+     */
+    boolean saveLevelProgress(int slotNumber, LevelProgressRecord run, int totalStars);
+
+    /**
+     * Consistency check for the incrementally kept total: recomputes the star
+     * total from level progress and repairs the slot row if it drifted
+     * (returns true then). Meant for the background writer.
+     */
+    boolean checkTotalStars(int slotNumber) throws Exception;
+
+    Map<Integer, LevelProgressRecord> loadLevelProgress(int slotNumber);
+
+    Map<String, Integer> loadCurrencies(int slotNumber);
+
+    void saveCurrency(int slotNumber, String currencyType, int amount) throws Exception;
+
+    List<QuestProgressRecord> loadQuestProgress(int slotNumber, int levelNumber);
+
+    void saveQuestProgress(int slotNumber, int levelNumber, List<QuestProgressRecord> rows) throws Exception;
+
+    Map<String, Integer> loadResearch(int slotNumber);
+
+    void saveResearch(int slotNumber, String researchId, int level) throws Exception;
+
+    /**
+     * The slot row plus all of its currencies, research, level and quest
+     * progress, read together when the player opens the slot. Empty when the
+     * store is unreachable.
+     */
+    SaveSnapshot loadSnapshot(int slotNumber);
+
+    /** Releases files or connections; called once when the game exits. */
+    void close();
+}
@@ -0,0 +1,35 @@
+package com.eliemichel.polyfinite.infrastructure.persistence;
+
+import java.nio.file.Path;
+
+/**
+ * Picks the save backend once per run from the polyfinite.save.backend system
+ * property: "mysql" (default, the polyfinite_game database) or "local"
+ * (an embedded log under polyfinite.save.dir, default "saves", no server needed).
+ */
+public final class SaveStores {
+
+    private static SaveStore instance;
+
+    private SaveStores() {
+    }
+
+    public static synchronized SaveStore get() {
+        if (instance == null) {
+            instance = create(System.getProperty("polyfinite.save.backend", "mysql"));
+        }
+        return instance;
+    }
+
+    private static SaveStore create(String backend) {
+        if (backend.equalsIgnoreCase("local")) {
+            Path directory = Path.of(System.getProperty("polyfinite.save.dir", "saves"));
+            System.out.println("Using local save store in " + directory.toAbsolutePath());
+            return new LocalSaveStore(directory);
+        }
+        if (!backend.equalsIgnoreCase("mysql")) {
+            System.out.println("Unknown save backend '" + backend + "', using MySQL");
+        }
+        return new MySqlSaveStore();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Decoding one image resource.
+ */
+@Name("polyfinite.AssetLoad")
+@Label("Asset Load")
+@Category({"Polyfinite", "Assets"})
+@Description("Reading and decoding an image from the classpath")
+public class AssetLoadEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,24 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A blocking database save, from opening the connection to closing it.
+ * The stack trace shows which caller (and which thread) paid for it.
+ */
+@Name("polyfinite.DbSave")
+@Label("Database Save")
+@Category({"Polyfinite", "Database"})
+@Description("Connection, statements and close of one save operation")
+public class DbSaveEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Connected")
+    public boolean connected;
+}
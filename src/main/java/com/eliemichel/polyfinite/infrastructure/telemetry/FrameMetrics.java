@@ -0,0 +1,224 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Locale;
+
+/**
+ * Per-phase frame timings for the gameplay screen, replacing the console
+ * profiling dumps. The simulation and renderer record phase durations into
+ * lock-free histograms; once per second the window is summarised into a
+ * Snapshot (p50 / p99 / max per phase, FPS, allocation rate, entity counts)
+ * that the overlay draws and that is kept for CSV export.
+ *
+ * Simulation phases are recorded once per fixed step, RENDER and FRAME once
+ * per displayed frame. FRAME is the work done in the frame (steps + render),
+ * not the time between pulses.
+ */
+public class FrameMetrics {
+
+    public enum Phase { ENEMY, TOWER, PROJECTILE, WAVE, RENDER, FRAME }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    // One row per second: 10 hours of play before the oldest rows are dropped
+    private static final int MAX_HISTORY = 36_000;
+
+    /** Summary of one window, immutable once published. Times are in microseconds. */
+    public static final class Snapshot {
+        public final double elapsedSeconds;
+        public final int fps;
+        public final long[] p50;
+        public final long[] p99;
+        public final long[] max;
+        public final double allocatedMbPerSecond;  // Negative when the JVM cannot measure it
+        public final int enemies;
+        public final int projectiles;
+        public final int pooledProjectiles;
+        public final int projectileHighWaterMark;  // Most projectiles in flight at once this session
+        public final int projectilesCreated;       // Projectile objects ever allocated by the pool
+
+        Snapshot(double elapsedSeconds, int fps, long[] p50, long[] p99, long[] max,
+                 double allocatedMbPerSecond, int enemies, int projectiles, int pooledProjectiles,
+                 int projectileHighWaterMark, int projectilesCreated) {
+            this.elapsedSeconds = elapsedSeconds;
+            this.fps = fps;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+            this.allocatedMbPerSecond = allocatedMbPerSecond;
+            this.enemies = enemies;
+            this.projectiles = projectiles;
+            this.pooledProjectiles = pooledProjectiles;
+            this.projectileHighWaterMark = projectileHighWaterMark;
+            this.projectilesCreated = projectilesCreated;
+        }
+    }
+
+    private final LatencyHistogram[] window = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram[] session = new LatencyHistogram[PHASES.length];
+
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private final long startNanos;
+    private long windowStartNanos;
+    private long windowStartAllocated;
+    private int windowFrames;
+
+    private int enemies;
+    private int projectiles;
+    private int pooledProjectiles;
+    private int projectileHighWaterMark;
+    private int projectilesCreated;
+
+    private volatile Snapshot latest;
+    private final ArrayDeque<Snapshot> history = new ArrayDeque<>();
+
+    public FrameMetrics() {
+        for (int i = 0; i < PHASES.length; i++) {
+            window[i] = new LatencyHistogram();
+            session[i] = new LatencyHistogram();
+        }
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+
+        startNanos = System.nanoTime();
+        windowStartNanos = startNanos;
+        windowStartAllocated = allocatedBytes();
+    }
+
+    public void record(Phase phase, long nanos) {
+        window[phase.ordinal()].recordNanos(nanos);
+        session[phase.ordinal()].recordNanos(nanos);
+    }
+
+    // Entity counts shown next to the timings; only the latest values are kept
+    public void recordCounts(int enemies, int projectiles, int pooledProjectiles,
+                             int projectileHighWaterMark, int projectilesCreated) {
+        this.enemies = enemies;
+        this.projectiles = projectiles;
+        this.pooledProjectiles = pooledProjectiles;
+        this.projectileHighWaterMark = projectileHighWaterMark;
+        this.projectilesCreated = projectilesCreated;
+    }
+
+    /**
+     * Closes a displayed frame. Must be called from the thread that runs the
+     * game loop, since the allocation rate is measured for that thread.
+     */
+    public void endFrame(long now, long frameNanos) {
+        record(Phase.FRAME, frameNanos);
+        windowFrames++;
+
+        long windowNanos = now - windowStartNanos;
+        if (windowNanos >= WINDOW_NANOS) {
+            publishWindow(now, windowNanos);
+        }
+    }
+
+    private void publishWindow(long now, long windowNanos) {
+        long[] p50 = new long[PHASES.length];
+        long[] p99 = new long[PHASES.length];
+        long[] max = new long[PHASES.length];
+        for (int i = 0; i < PHASES.length; i++) {
+            p50[i] = window[i].getPercentileMicros(0.50);
+            p99[i] = window[i].getPercentileMicros(0.99);
+            max[i] = window[i].getMaxMicros();
+            window[i].reset();
+        }
+
+        double seconds = windowNanos / 1_000_000_000.0;
+        long allocated = allocatedBytes();
+        double allocationRate = allocated < 0 ? -1
+                : (allocated - windowStartAllocated) / (1024.0 * 1024.0) / seconds;
+
+        Snapshot snapshot = new Snapshot((now - startNanos) / 1_000_000_000.0,
+                (int) Math.round(windowFrames / seconds), p50, p99, max,
+                allocationRate, enemies, projectiles, pooledProjectiles,
+                projectileHighWaterMark, projectilesCreated);
+        latest = snapshot;
+
+        history.addLast(snapshot);
+        if (history.size() > MAX_HISTORY) {
+            history.removeFirst();
+        }
+
+        windowStartNanos = now;
+        windowStartAllocated = allocated;
+        windowFrames = 0;
+    }
+
+    private long allocatedBytes() {
+        return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /** Latest one-second summary, or null during the first second. */
+    public Snapshot getLatest() {
+        return latest;
+    }
+
+    /** Whole-session distribution of one phase. */
+    public LatencyHistogram getSessionHistogram(Phase phase) {
+        return session[phase.ordinal()];
+    }
+
+    /**
+     * Writes one CSV row per recorded second, followed by whole-session
+     * percentiles as comment lines. Times are in milliseconds.
+     * Call from the game loop thread, which owns the history.
+     */
+    public void exportCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            StringBuilder header = new StringBuilder("time_s,fps,enemies,projectiles,pooled_projectiles,projectile_high_water,projectiles_created,alloc_mb_s");
+            for (Phase phase : PHASES) {
+                String name = phase.name().toLowerCase(Locale.ROOT);
+                header.append(',').append(name).append("_p50_ms")
+                        .append(',').append(name).append("_p99_ms")
+                        .append(',').append(name).append("_max_ms");
+            }
+            out.write(header.toString());
+            out.newLine();
+
+            for (Snapshot snapshot : history) {
+                StringBuilder row = new StringBuilder();
+                row.append(String.format(Locale.ROOT, "%.1f,%d,%d,%d,%d,%d,%d,%.2f", snapshot.elapsedSeconds,
+                        snapshot.fps, snapshot.enemies, snapshot.projectiles, snapshot.pooledProjectiles,
+                        snapshot.projectileHighWaterMark, snapshot.projectilesCreated,
+                        snapshot.allocatedMbPerSecond));
+                for (int i = 0; i < PHASES.length; i++) {
+                    row.append(String.format(Locale.ROOT, ",%.3f,%.3f,%.3f",
+                            snapshot.p50[i] / 1000.0, snapshot.p99[i] / 1000.0, snapshot.max[i] / 1000.0));
+                }
+                out.write(row.toString());
+                out.newLine();
+            }
+
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = session[phase.ordinal()];
+                out.write(String.format(Locale.ROOT, "# session %s: count %d, mean %.3f ms, p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                        phase.name().toLowerCase(Locale.ROOT), histogram.getCount(),
+                        histogram.getMeanMicros() / 1000.0,
+                        histogram.getPercentileMicros(0.50) / 1000.0,
+                        histogram.getPercentileMicros(0.99) / 1000.0,
+                        histogram.getMaxMicros() / 1000.0));
+                out.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A one-off gameplay occurrence (tower built or upgraded, gold drop, wave
+ * bonus, milestone, quest reward) that used to be printed to the console.
+ */
+@Name("polyfinite.Gameplay")
+@Label("Gameplay Event")
+@Category({"Polyfinite", "Simulation"})
+@Description("A discrete gameplay occurrence during a level")
+@StackTrace(false)
+public class GameplayEvent extends Event {
+
+    public static final String TOWER_BUILT = "Tower built";
+    public static final String TOWER_UPGRADED = "Tower upgraded";
+    public static final String TOWER_LEVELED = "Tower leveled up";
+    public static final String GOLD_DROPPED = "Gold dropped";
+    public static final String SKIP_BONUS = "Skip bonus";
+    public static final String MILESTONE_REACHED = "Wave milestone";
+    public static final String QUEST_COMPLETED = "Quest completed";
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Detail")
+    public String detail;
+
+    @Label("Amount")
+    public int amount;
+
+    // Instant event; costs next to nothing while no recording is running
+    public static void emit(String kind, String detail, int amount) {
+        GameplayEvent event = new GameplayEvent();
+        if (event.isEnabled()) {
+            event.kind = kind;
+            event.detail = detail;
+            event.amount = amount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Drawing one frame of the gameplay canvas.
+ */
+@Name("polyfinite.Render")
+@Label("Render Frame")
+@Category({"Polyfinite", "Rendering"})
+@Description("Drawing the level, towers, enemies and projectiles for one frame")
+@StackTrace(false)
+public class RenderEvent extends Event {
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Towers")
+    public int towers;
+
+    @Label("Projectiles")
+    public int projectiles;
+}
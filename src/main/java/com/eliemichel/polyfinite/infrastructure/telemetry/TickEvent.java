@@ -0,0 +1,31 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One fixed simulation step (GameSimulation.step), with the load it ran under.
+ */
+@Name("polyfinite.Tick")
+@Label("Simulation Tick")
+@Category({"Polyfinite", "Simulation"})
+@Description("One fixed 60 Hz simulation step")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Towers")
+    public int towers;
+
+    @Label("Projectiles")
+    public int projectiles;
+}
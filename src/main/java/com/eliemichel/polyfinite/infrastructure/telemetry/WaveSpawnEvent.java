@@ -0,0 +1,29 @@
+package com.eliemichel.polyfinite.infrastructure.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A wave's spawning window: begins when the wave starts and is committed
+ * once its last enemy has spawned, so it lines up with the ticks it slowed down.
+ */
+@Name("polyfinite.WaveSpawn")
+@Label("Wave Spawn")
+@Category({"Polyfinite", "Simulation"})
+@Description("From the start of a wave until all of its enemies have spawned")
+@StackTrace(false)
+public class WaveSpawnEvent extends Event {
+
+    @Label("Wave")
+    public int wave;
+
+    @Label("Enemies To Spawn")
+    public int enemiesToSpawn;
+
+    @Label("Enemies Alive At Start")
+    public int enemiesAliveAtStart;
+}
@@ -1,38 +1,47 @@
 package com.eliemichel.polyfinite.ui.gameplay;
 
 import com.eliemichel.polyfinite.application.gameplay.*;
-import com.eliemichel.polyfinite.domain.enemies.Enemy;
 import com.eliemichel.polyfinite.domain.level.LevelInfo;
 import com.eliemichel.polyfinite.domain.level.WaveMilestone;
 import com.eliemichel.polyfinite.domain.player.PlayerCurrencies;
 import com.eliemichel.polyfinite.domain.player.SaveSlot;
+import com.eliemichel.polyfinite.domain.progression.ResearchManager;
 import com.eliemichel.polyfinite.domain.progression.RewardType;
 import com.eliemichel.polyfinite.domain.quests.Quest;
 import com.eliemichel.polyfinite.domain.quests.QuestManager;
+import com.eliemichel.polyfinite.domain.towers.ProjectilePool;
 import com.eliemichel.polyfinite.domain.towers.types.Tower;
 import com.eliemichel.polyfinite.domain.tiles.Tile;
+import com.eliemichel.polyfinite.infrastructure.telemetry.FrameMetrics;
+import com.eliemichel.polyfinite.infrastructure.telemetry.RenderEvent;
 import javafx.animation.AnimationTimer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
-import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Random;
 
 public class GameplayScreen {
 
     private Stage stage;
     private LevelInfo levelInfo;
     private SaveSlot currentSave;
-    private Canvas canvas;
+    private RenderLayerStack layers;
     private int tileSize = 40;
 
     private LevelLoader levelLoader;
+    private GameSimulation simulation;
+    private ReplayLog replayLog;
     private GameCamera camera;
     private WaveManager waveManager;
     private GameRenderer renderer;
@@ -40,32 +49,21 @@ public class GameplayScreen {
     private QuestManager questManager;
     private VBox questPanel;
 
-    private ArrayList<Enemy> enemies;
-    private ArrayList<Tower> towers;
-    private ArrayList<Projectile> projectiles;
-
     private ArrayList<WaveMilestone> waveMilestones;
-    private ArrayList<Integer> milestonesReached;
-    private int milestoneStarsEarned;
-    private int lastWaveChecked;
-
-    // OPTIMIZATION: Reusable list to avoid garbage collection
-    private ArrayList<Enemy> enemiesToRemove;
 
-    private enum GameState { PREPARING, PLAYING, PAUSED, VICTORY, DEFEAT }
-    private GameState gameState;
-
-    private int lives;
-    private int paperMoney;  // In-level currency (renamed from gold)
-    private int score;
     private long lastUpdateTime;
-    private Random random = new Random();
+    private final FixedStepClock clock = new FixedStepClock();
+
+    // F3 shows the timings overlay, F4 exports them as CSV
+    private final FrameMetrics frameMetrics = new FrameMetrics();
+    private final FrameMetricsOverlay metricsOverlay = new FrameMetricsOverlay();
 
     private Label livesLabel;
     private Label paperMoneyLabel;  // Renamed from goldLabel
     private Label waveLabel;
     private Label scoreLabel;
     private Button startWaveButton;
+    private Button speedButton;
     private ArrayList<Label> starTrackerIcons;
     private Label nextStarLabel;
 
@@ -73,7 +71,6 @@ public class GameplayScreen {
     private Group canvasGroup;
     private StackPane root;
     private EndLevelScreen endLevelScreen;
-    private boolean levelEnded = false;
 
     private int selectedTileRow = -1;
     private int selectedTileCol = -1;
@@ -83,15 +80,6 @@ public class GameplayScreen {
         this.stage = stage;
         this.levelInfo = levelInfo;
         this.currentSave = currentSave;
-        this.enemies = new ArrayList<>();
-        this.towers = new ArrayList<>();
-        this.projectiles = new ArrayList<>();
-        this.enemiesToRemove = new ArrayList<>(); // OPTIMIZATION: Initialize once
-
-        this.gameState = GameState.PREPARING;
-        this.lives = 20;
-        this.paperMoney = 200;
-        this.score = 0;
 
         initializeLevel();
     }
@@ -102,48 +90,50 @@ public class GameplayScreen {
         levelLoader.findSpawnAndGoal();
         levelLoader.createEnemyPath();
 
-        waveManager = new WaveManager(
-                levelLoader.getLevelData(),
-                enemies,
-                levelLoader.getSpawnTile(),
-                levelLoader.getEnemyPath(),
-                tileSize
-        );
+        simulation = new GameSimulation(levelLoader, tileSize);
+        waveManager = simulation.getWaveManager();
+        simulation.setFrameMetrics(frameMetrics);
+
+        // Every session is recorded so it can be replayed headless with ReplayPlayer
+        replayLog = new ReplayLog(levelInfo.getLevelNumber(), tileSize, simulation.getSeed(),
+                ResearchManager.getInstance().getLevelsSnapshot());
+        simulation.setReplayLog(replayLog);
 
-        waveMilestones = WaveMilestone.normalize(levelLoader.getLevelData().getWaveMilestones());
+        waveMilestones = simulation.getWaveMilestones();
         levelInfo.setWaveMilestones(new ArrayList<>(waveMilestones));
-        milestonesReached = new ArrayList<>();
-        milestoneStarsEarned = 0;
-        lastWaveChecked = 0;
 
         // Initialize quest manager
-        questManager = new QuestManager(levelInfo.getLevelNumber(), currentSave.getSlotNumber());
+        questManager = new QuestManager(levelInfo.getLevelNumber(), currentSave);
         questManager.initializeQuests(levelLoader.getLevelData().getQuestDefinitions());
-        questManager.setOnQuestCompleted(() -> {
-            System.out.println("A quest was completed!");
-            refreshQuestPanel();
-        });
+        questManager.setOnQuestCompleted(this::refreshQuestPanel);
         questManager.setOnQuestProgressChanged(this::refreshQuestPanel);
+        simulation.setQuestManager(questManager);
 
-        // Set up skip bonus callback
-        waveManager.setOnSkipBonus(() -> {
-            int bonus = waveManager.getSkipBonusAmount();
-            paperMoney += bonus;
-            updatePaperMoneyLabel();
-            System.out.println("Skip bonus applied: +" + bonus + " gold");
+        // The simulation reports state changes; this screen only redraws
+        simulation.setOnLivesChanged(this::updateLivesLabel);
+        simulation.setOnMoneyChanged(this::updatePaperMoneyLabel);
+        simulation.setOnScoreChanged(this::updateScoreLabel);
+        simulation.setOnWaveChanged(() -> {
+            updateWaveLabel();
+            updateStarTracker();
+            updateStartWaveButton();
         });
+        simulation.setOnGoldDropped(() -> PlayerCurrencies.getInstance().addCurrency(RewardType.GOLD, 1));
+        simulation.setOnLevelEnded(this::showEndLevelScreen);
     }
 
     public void show() {
-        double extraSpace = 500;
+        // The layers cover the level plus a margin for sprites, shells and range circles overhanging its
+        // edge; the black container around them is not drawn, so panning past the level costs nothing
+        double margin = tileSize * 2;
         double levelWidth = levelLoader.getLevelData().getGridWidth() * tileSize;
         double levelHeight = levelLoader.getLevelData().getGridHeight() * tileSize;
 
-        canvas = new Canvas(levelWidth + extraSpace * 2, levelHeight + extraSpace * 2);
-        canvasGroup = new Group(canvas);
+        layers = new RenderLayerStack(levelWidth + margin * 2, levelHeight + margin * 2);
+        canvasGroup = new Group(layers.getCanvases());
 
         camera = new GameCamera(canvasGroup);
-        renderer = new GameRenderer(levelLoader.getLevelData(), tileSize, extraSpace, extraSpace);
+        renderer = new GameRenderer(levelLoader.getLevelData(), tileSize, margin, margin);
 
         StackPane canvasContainer = new StackPane(canvasGroup);
         canvasContainer.setStyle("-fx-background-color: #000000;");
@@ -153,12 +143,14 @@ public class GameplayScreen {
         waveLabel = new Label();
         scoreLabel = new Label();
         startWaveButton = new Button();
+        speedButton = new Button();
 
         HBox topBar = UIBuilder.createTopBar(livesLabel, paperMoneyLabel, waveLabel, scoreLabel,
-                this::togglePause, waveManager.getCurrentWave(), lives, paperMoney, score, createStarTracker());
+                simulation::togglePause, waveManager.getCurrentWave(), simulation.getLives(),
+                simulation.getPaperMoney(), simulation.getScore(), createStarTracker());
         topBar.setPickOnBounds(false);
 
-        HBox bottomBar = UIBuilder.createBottomBar(startWaveButton, this::startNextWave, this::toggleSpeed);
+        HBox bottomBar = UIBuilder.createBottomBar(startWaveButton, speedButton, this::startNextWave, this::toggleSpeed);
         bottomBar.setPickOnBounds(false);
 
         BorderPane uiOverlay = new BorderPane();
@@ -169,13 +161,7 @@ public class GameplayScreen {
         setupQuestPanel(uiOverlay);
 
         towerSelectionPanel = UIBuilder.createTowerSelectionPanel();
-        towerPanelManager = new TowerPanelManager(towerSelectionPanel, towers, tileSize);
-        towerPanelManager.setGold(paperMoney);
-        towerPanelManager.setQuestManager(questManager);
-        towerPanelManager.setOnGoldUpdate(() -> {
-            paperMoney = towerPanelManager.getGold();
-            updatePaperMoneyLabel();
-        });
+        towerPanelManager = new TowerPanelManager(towerSelectionPanel, simulation);
         towerPanelManager.setOnPanelHide(() -> {
             selectedTileRow = -1;
             selectedTileCol = -1;
@@ -184,7 +170,9 @@ public class GameplayScreen {
 
         root = new StackPane();
         root.setStyle("-fx-background-color: #000000;");
-        root.getChildren().addAll(canvasContainer, uiOverlay, towerSelectionPanel);
+        root.getChildren().addAll(canvasContainer, uiOverlay, towerSelectionPanel, metricsOverlay.getNode());
+        StackPane.setAlignment(metricsOverlay.getNode(), Pos.TOP_LEFT);
+        StackPane.setMargin(metricsOverlay.getNode(), new Insets(90, 0, 0, 10));
 
         root.setOnScroll(e -> camera.handleZoom(e.getDeltaY()));
         root.setOnMousePressed(e -> camera.handleDragStart(e.getX(), e.getY()));
@@ -201,6 +189,7 @@ public class GameplayScreen {
         });
 
         stage.getScene().setFill(javafx.scene.paint.Color.BLACK);
+        stage.getScene().setOnKeyPressed(this::handleKey);
         root.setOpacity(0);
         stage.getScene().setRoot(root);
         stage.setFullScreen(true);
@@ -227,7 +216,7 @@ public class GameplayScreen {
         int row = tile[0];
         int col = tile[1];
 
-        Tower clickedTower = getTowerAt(row, col);
+        Tower clickedTower = simulation.getTowerAt(row, col);
         if (clickedTower != null) {
             selectedTower = clickedTower;
             selectedTileRow = -1;
@@ -255,220 +244,105 @@ public class GameplayScreen {
         selectedTower = null;
     }
 
-    private Tower getTowerAt(int row, int col) {
-        for (int i = 0; i < towers.size(); i++) {
-            Tower tower = towers.get(i);
-            if (tower.getRow() == row && tower.getCol() == col) {
-                return tower;
-            }
-        }
-        return null;
-    }
-
     private void startGameLoop() {
         lastUpdateTime = System.nanoTime();
 
         AnimationTimer gameLoop = new AnimationTimer() {
-            private long frameCount = 0;
-            private long totalUpdateTime = 0;
-            private long totalRenderTime = 0;
-            private long lastPrintTime = System.nanoTime();
-
             @Override
             public void handle(long now) {
-                double deltaTime = (now - lastUpdateTime) / 1000000000.0;
+                double frameTime = (now - lastUpdateTime) / 1000000000.0;
                 lastUpdateTime = now;
 
-                // PROFILING: Measure update time
-                long updateStart = System.nanoTime();
-                update(deltaTime);  // <-- Calls your existing update() method
-                long updateEnd = System.nanoTime();
-                totalUpdateTime += (updateEnd - updateStart);
+                long frameStart = System.nanoTime();
+
+                // Fixed 60 Hz simulation: run as many whole steps as this frame covers
+                int steps = clock.advance(frameTime);
+                for (int i = 0; i < steps; i++) {
+                    simulation.step(FixedStepClock.STEP);
+                }
+
+                // Countdown text changes every frame while waiting between waves
+                if (steps > 0 && waveManager.isWaiting()) {
+                    updateStartWaveButton();
+                }
 
-                // PROFILING: Measure render time
                 long renderStart = System.nanoTime();
-                render();  // <-- Calls your existing render() method
+                render();
                 long renderEnd = System.nanoTime();
-                totalRenderTime += (renderEnd - renderStart);
-
-                frameCount++;
-
-                // Print profiling stats every second
-                if (now - lastPrintTime >= 1_000_000_000) {
-                    long avgUpdateTime = totalUpdateTime / frameCount;
-                    long avgRenderTime = totalRenderTime / frameCount;
-
-                    System.out.println("=== PERFORMANCE STATS ===");
-                    System.out.println("Frames: " + frameCount);
-                    System.out.println("Enemies: " + enemies.size());
-                    System.out.println("Towers: " + towers.size());
-                    System.out.println("Projectiles: " + projectiles.size());
-                    System.out.println("Avg Update Time: " + (avgUpdateTime / 1_000_000.0) + "ms");
-                    System.out.println("Avg Render Time: " + (avgRenderTime / 1_000_000.0) + "ms");
-                    System.out.println("Total Frame Time: " + ((avgUpdateTime + avgRenderTime) / 1_000_000.0) + "ms");
-                    System.out.println("FPS: " + frameCount);
-                    System.out.println("========================");
-
-                    // Reset counters
-                    frameCount = 0;
-                    totalUpdateTime = 0;
-                    totalRenderTime = 0;
-                    lastPrintTime = now;
-                }
+
+                ProjectilePool projectilePool = simulation.getProjectilePool();
+                frameMetrics.record(FrameMetrics.Phase.RENDER, renderEnd - renderStart);
+                frameMetrics.recordCounts(simulation.getEnemies().size(),
+                        projectilePool.getActiveCount(), projectilePool.getPooledCount(),
+                        projectilePool.getHighWaterMark(), projectilePool.getCreatedCount());
+                frameMetrics.endFrame(now, renderEnd - frameStart);
+                metricsOverlay.update(frameMetrics);
             }
         };
         gameLoop.start();
     }
 
-    // OPTIMIZED UPDATE METHOD
-    private void update(double deltaTime) {
-        long updateTotalStart = System.nanoTime();
-
-        if (gameState == GameState.PAUSED || gameState == GameState.VICTORY || gameState == GameState.DEFEAT) {
-            return;
-        }
-
-        // PROFILE: Enemy updates
-        long enemyStart = System.nanoTime();
-        for (int i = enemies.size() - 1; i >= 0; i--) {
-            Enemy enemy = enemies.get(i);
-            enemy.update();
-
-            if (enemy.hasReachedGoal()) {
-                lives--;
-                enemies.remove(i);
-                updateLivesLabel();
-
-                if (lives <= 0 && !levelEnded) {
-                    levelEnded = true;
-                    showEndLevelScreen();
-                }
-            }
-            else if (!enemy.isAlive()) {
-                // Find which tower killed this enemy (from last projectile hit)
-                String killerTowerType = enemy.getLastHitByTower();
-                
-                paperMoney += enemy.getGoldReward();
-                score += 10;
-                
-                // Check for meta-currency gold drop
-                double goldDropChance = levelLoader.getLevelData().getGoldDropChance();
-                if (random.nextDouble() < goldDropChance) {
-                    PlayerCurrencies.getInstance().addCurrency(RewardType.GOLD, 1);
-                    System.out.println("Enemy dropped 1 Gold!");
-                }
-                
-                // Fire quest event
-                questManager.onEnemyKilled(enemy.getEnemyType(), killerTowerType);
-                
-                enemies.remove(i);
-                updatePaperMoneyLabel();
-                updateScoreLabel();
-                
-                // Update score quest
-                questManager.onScoreChanged(score);
-            }
+    private void handleKey(KeyEvent event) {
+        if (event.getCode() == KeyCode.F3) {
+            metricsOverlay.toggle();
+            metricsOverlay.update(frameMetrics);
+        } else if (event.getCode() == KeyCode.F4) {
+            exportFrameMetrics();
         }
-        long enemyEnd = System.nanoTime();
+    }
 
-        // PROFILE: Tower updates
-        long towerStart = System.nanoTime();
-        for (int i = 0; i < towers.size(); i++) {
-            towers.get(i).update(deltaTime, enemies, projectiles);
-        }
-        long towerEnd = System.nanoTime();
-
-        // PROFILE: Projectile updates
-        long projStart = System.nanoTime();
-        for (int i = projectiles.size() - 1; i >= 0; i--) {
-            Projectile p = projectiles.get(i);
-            p.update();
-            if (!p.isActive()) {
-                projectiles.remove(i);
-            }
-        }
-        long projEnd = System.nanoTime();
-
-        // PROFILE: WaveManager update
-        long waveStart = System.nanoTime();
-        waveManager.update(deltaTime);
-        checkWaveMilestones();
-        long waveEnd = System.nanoTime();
-
-        // PROFILE: State checks
-        long stateCheckStart = System.nanoTime();
-        if (waveManager.isWaiting()) {
-            gameState = GameState.PREPARING;
-            updateStartWaveButton(); // Update timer display every frame
-        } else if (waveManager.isIdle()) {
-            gameState = GameState.PREPARING;
-        }
-        long stateCheckEnd = System.nanoTime();
-
-        // PROFILE: Panel update
-        long panelStart = System.nanoTime();
-        towerPanelManager.setGold(paperMoney);
-        long panelEnd = System.nanoTime();
-
-        long updateTotalEnd = System.nanoTime();
-
-        // DETAILED PROFILING OUTPUT
-        if (enemies.size() > 400) {
-            double enemyTime = (enemyEnd - enemyStart) / 1_000_000.0;
-            double towerTime = (towerEnd - towerStart) / 1_000_000.0;
-            double projTime = (projEnd - projStart) / 1_000_000.0;
-            double waveTime = (waveEnd - waveStart) / 1_000_000.0;
-            double stateTime = (stateCheckEnd - stateCheckStart) / 1_000_000.0;
-            double panelTime = (panelEnd - panelStart) / 1_000_000.0;
-            double totalTime = (updateTotalEnd - updateTotalStart) / 1_000_000.0;
-            double unaccountedTime = totalTime - (enemyTime + towerTime + projTime + waveTime + stateTime + panelTime);
-
-            System.out.println(">>> ULTRA DETAILED PROFILING (" + enemies.size() + " enemies):");
-            System.out.println("  Enemy Updates:   " + String.format("%.4f", enemyTime) + "ms");
-            System.out.println("  Tower Updates:   " + String.format("%.4f", towerTime) + "ms");
-            System.out.println("  Projectiles:     " + String.format("%.4f", projTime) + "ms");
-            System.out.println("  WaveManager:     " + String.format("%.4f", waveTime) + "ms");
-            System.out.println("  State Checks:    " + String.format("%.4f", stateTime) + "ms");
-            System.out.println("  Panel Update:    " + String.format("%.4f", panelTime) + "ms");
-            System.out.println("  UNACCOUNTED:     " + String.format("%.4f", unaccountedTime) + "ms ⚠️");
-            System.out.println("  TOTAL:           " + String.format("%.4f", totalTime) + "ms");
-            System.out.println();
+    private void exportFrameMetrics() {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path file = Path.of("metrics", "level_" + levelInfo.getLevelNumber() + "_" + timestamp + ".csv");
+        try {
+            frameMetrics.exportCsv(file);
+            System.out.println("Frame metrics saved: " + file);
+        } catch (IOException e) {
+            System.out.println("Error saving frame metrics: " + e.getMessage());
         }
     }
 
-
     private void render() {
-        renderer.render(canvas.getGraphicsContext2D(), towers, projectiles, enemies,
-                selectedTower, selectedTileRow, selectedTileCol, towerPanelManager.getTowerTypeToPlace());
+        // Nothing moves while paused or after the level ends, so draw the latest step as-is
+        GameSimulation.GameState gameState = simulation.getGameState();
+        boolean simulating = gameState == GameSimulation.GameState.PREPARING || gameState == GameSimulation.GameState.PLAYING;
+        double alpha = simulating ? clock.getAlpha() : 1.0;
+
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        renderer.setVisibleArea(camera.getVisibleArea(levelLoader.getLevelData().getGridWidth() * tileSize,
+                levelLoader.getLevelData().getGridHeight() * tileSize));
+        renderer.render(layers, simulation.getTowers(),
+                simulation.getProjectilePool(), simulation.getEnemies(),
+                selectedTower, selectedTileRow, selectedTileCol, towerPanelManager.getTowerTypeToPlace(), alpha);
+        if (event.shouldCommit()) {
+            event.enemies = simulation.getEnemies().size();
+            event.towers = simulation.getTowers().size();
+            event.projectiles = simulation.getProjectilePool().getActiveCount();
+            event.commit();
+        }
     }
 
 
     private void startNextWave() {
-        if (waveManager.canStartWave()) {
-            waveManager.playerStartWave();
-            gameState = GameState.PLAYING;
-            updateWaveLabel();
-            updateStartWaveButton();
-        }
-    }
-
-    private void togglePause() {
-        if (gameState == GameState.PLAYING) {
-            gameState = GameState.PAUSED;
-        } else if (gameState == GameState.PAUSED) {
-            gameState = GameState.PLAYING;
-        }
+        simulation.startWave();
     }
 
     private void toggleSpeed() {
-        System.out.println("Speed toggle clicked - TODO");
+        int multiplier = clock.cycleSpeed();
+        speedButton.setText("⏩ " + multiplier + "x Speed");
     }
 
     private void showEndLevelScreen() {
+        stage.getScene().setOnKeyPressed(null);
+
         // Save quest progress
         questManager.onLevelEnd();
+        saveReplay();
 
         int finalWave = waveManager.getCurrentWave();
+        int score = simulation.getScore();
+        int milestoneStarsEarned = simulation.getMilestoneStarsEarned();
         levelInfo.updateProgress(finalWave, score, milestoneStarsEarned);
 
         currentSave.saveLevelProgress(levelInfo.getLevelNumber(), finalWave,
@@ -479,6 +353,19 @@ public class GameplayScreen {
         root.getChildren().add(endLevelScreen.getOverlay());
     }
 
+    private void saveReplay() {
+        replayLog.finish(simulation);
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path file = Path.of("replays", "level_" + levelInfo.getLevelNumber() + "_" + timestamp + ".pfr");
+        try {
+            replayLog.save(file);
+            System.out.println("Replay saved: " + file);
+        } catch (IOException e) {
+            System.out.println("Error saving replay: " + e.getMessage());
+        }
+    }
+
     private void updateAllLabels() {
         updateLivesLabel();
         updatePaperMoneyLabel();
@@ -490,13 +377,13 @@ public class GameplayScreen {
 
     private void updateLivesLabel() {
         if (livesLabel != null) {
-            livesLabel.setText("❤️ Lives: " + lives);
+            livesLabel.setText("❤️ Lives: " + simulation.getLives());
         }
     }
 
     private void updatePaperMoneyLabel() {
         if (paperMoneyLabel != null) {
-            paperMoneyLabel.setText("💵 " + paperMoney);
+            paperMoneyLabel.setText("💵 " + simulation.getPaperMoney());
         }
     }
 
@@ -508,7 +395,7 @@ public class GameplayScreen {
 
     private void updateScoreLabel() {
         if (scoreLabel != null) {
-            scoreLabel.setText("⭐ " + score);
+            scoreLabel.setText("⭐ " + simulation.getScore());
         }
     }
 
@@ -617,30 +504,6 @@ public class GameplayScreen {
         }
     }
 
-    private void checkWaveMilestones() {
-        if (waveMilestones == null || waveMilestones.isEmpty()) {
-            return;
-        }
-
-        int currentWave = waveManager.getCurrentWave();
-        if (currentWave <= lastWaveChecked) {
-            return;
-        }
-
-        lastWaveChecked = currentWave;
-        updateWaveLabel();
-        updateStarTracker();
-
-        for (WaveMilestone milestone : waveMilestones) {
-            if (milestone.isReached(currentWave) && !milestonesReached.contains(milestone.getWave())) {
-                milestonesReached.add(milestone.getWave());
-                milestoneStarsEarned = Math.min(3, milestoneStarsEarned + milestone.getStarsReward());
-                System.out.println("Reached wave milestone " + milestone.getWave() + " (+" + milestone.getStarsReward() + " star)");
-                updateStarTracker();
-            }
-        }
-    }
-
     private void updateStartWaveButton() {
         if (startWaveButton != null) {
             if (waveManager.isIdle()) {
@@ -651,7 +514,7 @@ public class GameplayScreen {
                 int bonus = waveManager.getSkipBonusAmount();
                 startWaveButton.setText("⏩ SKIP (" + timeLeft + "s) +💰" + bonus);
                 startWaveButton.setDisable(false);
-            } else if (waveManager.isSpawning() || gameState == GameState.PLAYING) {
+            } else if (waveManager.isSpawning() || simulation.getGameState() == GameSimulation.GameState.PLAYING) {
                 startWaveButton.setText("⏳ WAVE IN PROGRESS");
                 startWaveButton.setDisable(true);
             } else {
@@ -1,8 +1,8 @@
 package com.eliemichel.polyfinite.ui.map;
 
-import com.eliemichel.polyfinite.database.DBConnectMySQL;
 import com.eliemichel.polyfinite.domain.player.SaveSlot;
 import com.eliemichel.polyfinite.domain.level.WaveMilestone;
+import com.eliemichel.polyfinite.infrastructure.persistence.LevelProgressRecord;
 import com.eliemichel.polyfinite.utils.AtlasManager;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -21,7 +21,6 @@ import com.eliemichel.polyfinite.screens.ResearchScreen;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -108,36 +107,12 @@ public class MapScreen {
     private void loadLevelProgress() {
         levelProgressMap.clear();
 
-        DBConnectMySQL connector = new DBConnectMySQL();
-        if (!connector.isConnected()) {
-            System.out.println("Cannot load level progress - database not connected");
-            return;
-        }
-
-        try {
-            String sql = "SELECT level_number, best_wave, best_score, stars_earned, quest_1_completed, quest_2_completed, quest_3_completed " +
-                    "FROM level_progress WHERE save_slot_id = " + currentSave.getSlotNumber();
-            ResultSet rs = connector.getStatement().executeQuery(sql);
-
-            while (rs.next()) {
-                int levelNumber = rs.getInt("level_number");
-                int bestWave = rs.getInt("best_wave");
-                int bestScore = rs.getInt("best_score");
-                int stars = rs.getInt("stars_earned");
-                boolean q1 = rs.getBoolean("quest_1_completed");
-                boolean q2 = rs.getBoolean("quest_2_completed");
-                boolean q3 = rs.getBoolean("quest_3_completed");
-
-                levelProgressMap.put(levelNumber, new LevelProgressData(bestWave, bestScore, stars, q1, q2, q3));
-            }
-
-            connector.closeConnection();
-            System.out.println("Loaded progress for " + levelProgressMap.size() + " levels");
-
-        } catch (Exception e) {
-            System.out.println("Error loading level progress: " + e.getMessage());
-            e.printStackTrace();
+        // Already loaded with the rest of the slot in SaveSlot.open()
+        for (LevelProgressRecord progress : currentSave.getLevelProgress().values()) {
+            levelProgressMap.put(progress.levelNumber, new LevelProgressData(progress.bestWave, progress.bestScore,
+                    progress.starsEarned, progress.quest1Completed, progress.quest2Completed, progress.quest3Completed));
         }
+        System.out.println("Loaded progress for " + levelProgressMap.size() + " levels");
     }
 
     private boolean isLevelCompleted(int levelNumber) {
@@ -1,7 +1,6 @@
 package com.eliemichel.polyfinite.ui.menu;
 
 import com.eliemichel.polyfinite.domain.player.SaveSlot;
-import com.eliemichel.polyfinite.domain.player.PlayerCurrencies;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -12,7 +11,6 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
-import com.eliemichel.polyfinite.domain.progression.ResearchManager;
 
 public class SaveSelectionMenu {
 
@@ -92,8 +90,7 @@ public class SaveSelectionMenu {
         }
 
         button.setOnAction(e -> {
-            ResearchManager.getInstance().loadResearch(saveSlot.getSlotNumber());
-            PlayerCurrencies.getInstance().loadCurrencies(saveSlot.getSlotNumber());
+            saveSlot.open();
 
             if (saveSlot.isEmpty()) {
                 saveSlot.startNewGame();
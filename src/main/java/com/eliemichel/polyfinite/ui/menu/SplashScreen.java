@@ -1,8 +1,11 @@
 package com.eliemichel.polyfinite.ui.menu;
 
+import com.eliemichel.polyfinite.utils.AssetPreloader;
 import javafx.animation.*;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
@@ -11,6 +14,8 @@ import javafx.util.Duration;
 
 public class SplashScreen {
     private Stage stage;
+    private AssetPreloader preloader;
+    private boolean animationFinished = false;
 
     public SplashScreen(Stage stage) {
         this.stage = stage;
@@ -20,6 +25,24 @@ public class SplashScreen {
         StackPane root = new StackPane();
         root.setStyle("-fx-background-color: black;");
 
+        // Sprites and the atlas decode in the background while the logos play
+        ProgressBar loadingBar = new ProgressBar(0);
+        loadingBar.setPrefWidth(300);
+        loadingBar.setPrefHeight(4);
+        loadingBar.setStyle("-fx-accent: #888888; -fx-control-inner-background: #1a1a1a;");
+        StackPane.setAlignment(loadingBar, Pos.BOTTOM_CENTER);
+        StackPane.setMargin(loadingBar, new Insets(0, 0, 60, 0));
+
+        preloader = new AssetPreloader();
+        preloader.setOnProgress(loadingBar::setProgress);
+        preloader.setOnComplete(() -> {
+            loadingBar.setVisible(false);
+            if (animationFinished) {
+                onComplete.run();
+            }
+        });
+        preloader.start();
+
         // EM Games logo
         Image emLogo = new Image(getClass().getResourceAsStream("/E-M-Games-logo.jpg"));
         ImageView emLogoView = new ImageView(emLogo);
@@ -34,7 +57,7 @@ public class SplashScreen {
         mainLogoView.setFitWidth(500);
         mainLogoView.setOpacity(0);
 
-        root.getChildren().addAll(emLogoView, mainLogoView);
+        root.getChildren().addAll(emLogoView, mainLogoView, loadingBar);
         StackPane.setAlignment(emLogoView, Pos.CENTER);
         StackPane.setAlignment(mainLogoView, Pos.CENTER);
 
@@ -76,7 +99,13 @@ public class SplashScreen {
                 mainFadeOut
         );
 
-        sequence.setOnFinished(e -> onComplete.run());
+        // Leave the splash only once both the animation and the preload are done
+        sequence.setOnFinished(e -> {
+            animationFinished = true;
+            if (preloader.isComplete()) {
+                onComplete.run();
+            }
+        });
         sequence.play();
     }
 }
\ No newline at end of file
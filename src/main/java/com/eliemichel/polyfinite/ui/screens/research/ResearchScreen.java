@@ -72,7 +72,10 @@ public class ResearchScreen {
         this.transition = new ScreenTransition(stage);
         this.allNodes = new HashMap<>();
         this.connections = new ArrayList<>();
-        this.researchManager.loadResearch(save.getSlotNumber());
+        // Opening the slot already loaded its research; only another slot needs a reload
+        if (researchManager.getCurrentSaveSlotId() != save.getSlotNumber()) {
+            this.researchManager.loadResearch(save.getSlotNumber());
+        }
     }
 
     public void show() {
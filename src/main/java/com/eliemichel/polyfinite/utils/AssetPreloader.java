@@ -0,0 +1,103 @@
+package com.eliemichel.polyfinite.utils;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Decodes the texture atlas and every tower, enemy and projectile sprite on a
+ * small background pool while the splash screen plays, so placing the first
+ * tower of a type or spawning the first enemy never waits on a PNG decoder.
+ * Progress and completion callbacks run on the FX thread.
+ */
+public class AssetPreloader {
+
+    // -Dpolyfinite.debug.assets=true prints the preload time and sprite memory when loading completes
+    private static final boolean PRINT_REPORT = Boolean.getBoolean("polyfinite.debug.assets");
+
+    private final AtomicInteger finished = new AtomicInteger();
+    private int total;
+    private long startNanos;
+    private long elapsedNanos;
+    private boolean complete = false;
+
+    // Callbacks
+    private DoubleConsumer onProgress;
+    private Runnable onComplete;
+
+    /** Submits all decodes and returns immediately. */
+    public void start() {
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(AtlasManager::getInstance);
+        SpriteRegistry sprites = SpriteRegistry.getInstance();
+        for (String spriteId : SpriteRegistry.ALL_SPRITES) {
+            tasks.add(() -> sprites.get(spriteId));
+        }
+        total = tasks.size();
+        startNanos = System.nanoTime();
+
+        // Leave a core for the FX thread so the splash animation stays smooth
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (Runnable task : tasks) {
+            pool.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.out.println("Error preloading assets: " + e.getMessage());
+                } finally {
+                    taskFinished();
+                }
+            });
+        }
+        pool.shutdown();
+    }
+
+    private void taskFinished() {
+        int done = finished.incrementAndGet();
+        Platform.runLater(() -> {
+            if (onProgress != null) {
+                onProgress.accept((double) done / total);
+            }
+            if (done == total) {
+                complete = true;
+                elapsedNanos = System.nanoTime() - startNanos;
+                if (PRINT_REPORT) {
+                    System.out.printf("Preloaded %d assets in %.0f ms%n", total, elapsedNanos / 1e6);
+                    SpriteRegistry.getInstance().printMemoryReport();
+                }
+                if (onComplete != null) {
+                    onComplete.run();
+                }
+            }
+        });
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    // Wall time from start() to the last decode, or 0 until complete
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    // Fraction of assets decoded, from 0 to 1
+    public void setOnProgress(DoubleConsumer callback) {
+        this.onProgress = callback;
+    }
+
+    public void setOnComplete(Runnable callback) {
+        this.onComplete = callback;
+    }
+}
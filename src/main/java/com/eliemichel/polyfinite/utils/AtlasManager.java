@@ -8,7 +8,8 @@ public class AtlasManager {
         atlas = new TextureAtlas("/textures/combined.atlas", "/textures/combined.png");
     }
 
-    public static AtlasManager getInstance() {
+    // Synchronized because the AssetPreloader builds the atlas off the FX thread
+    public static synchronized AtlasManager getInstance() {
         if (instance == null) {
             instance = new AtlasManager();
         }
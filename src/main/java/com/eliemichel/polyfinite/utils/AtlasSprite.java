@@ -0,0 +1,65 @@
+package com.eliemichel.polyfinite.utils;
+
+import com.eliemichel.polyfinite.infrastructure.telemetry.AssetLoadEvent;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A region of the texture atlas, drawn straight from the one atlas texture
+ * with the source-rectangle form of drawImage. No pixels are copied unless a
+ * caller asks for a standalone Image, which is then made once and kept.
+ */
+public final class AtlasSprite {
+    private final Image atlasImage;
+    private final AtlasRegion region;
+    private Image standalone;
+
+    AtlasSprite(Image atlasImage, AtlasRegion region) {
+        this.atlasImage = atlasImage;
+        this.region = region;
+    }
+
+    // With image smoothing on, edge pixels may sample the neighbouring region; the game renders unsmoothed
+    public void draw(GraphicsContext gc, double x, double y, double width, double height) {
+        gc.drawImage(atlasImage, region.getX(), region.getY(), region.getWidth(), region.getHeight(),
+                x, y, width, height);
+    }
+
+    /** An ImageView showing just this region of the shared atlas image. */
+    public ImageView createImageView() {
+        ImageView view = new ImageView(atlasImage);
+        view.setViewport(new Rectangle2D(region.getX(), region.getY(), region.getWidth(), region.getHeight()));
+        return view;
+    }
+
+    /**
+     * The region as its own Image, for APIs that need one (backgrounds,
+     * ImageView-based UI). Copied from the atlas on the first call only.
+     */
+    public Image toImage() {
+        if (standalone == null) {
+            // The copy is the expensive part, so it is reported like a load
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            standalone = new WritableImage(atlasImage.getPixelReader(), region.getX(), region.getY(),
+                    region.getWidth(), region.getHeight());
+            ImageLoader.commit(event, region.getName(), standalone);
+        }
+        return standalone;
+    }
+
+    public String getName() {
+        return region.getName();
+    }
+
+    public int getWidth() {
+        return region.getWidth();
+    }
+
+    public int getHeight() {
+        return region.getHeight();
+    }
+}
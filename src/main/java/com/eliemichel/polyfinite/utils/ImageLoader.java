@@ -0,0 +1,40 @@
+package com.eliemichel.polyfinite.utils;
+
+import com.eliemichel.polyfinite.infrastructure.telemetry.AssetLoadEvent;
+import javafx.scene.image.Image;
+
+/**
+ * Loads images from the classpath and reports each decode to Flight Recorder,
+ * so a recording shows which sprite load landed in which frame.
+ * Game sprites should come from the SpriteRegistry, which decodes each once.
+ */
+public final class ImageLoader {
+
+    private ImageLoader() {
+    }
+
+    // Same behaviour as new Image(getResourceAsStream(path)), including the exception for a missing resource
+    public static Image load(String resourcePath) {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        Image image = null;
+        try {
+            image = new Image(ImageLoader.class.getResourceAsStream(resourcePath));
+            return image;
+        } finally {
+            commit(event, resourcePath, image);
+        }
+    }
+
+    static void commit(AssetLoadEvent event, String path, Image image) {
+        if (!event.shouldCommit()) return;
+
+        event.path = path;
+        event.success = image != null && !image.isError();
+        if (image != null) {
+            event.width = (int) image.getWidth();
+            event.height = (int) image.getHeight();
+        }
+        event.commit();
+    }
+}
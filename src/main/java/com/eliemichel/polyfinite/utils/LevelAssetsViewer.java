@@ -8,7 +8,6 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
@@ -449,10 +448,11 @@ public class LevelAssetsViewer extends Application {
         box.setPrefHeight(140);
 
         try {
-            Image tileImage = AtlasManager.getInstance().getAtlas().getRegion(tileName);
+            // A viewport on the shared atlas image, no per-display pixel copy
+            AtlasSprite tileSprite = AtlasManager.getInstance().getAtlas().getSprite(tileName);
 
-            if (tileImage != null) {
-                ImageView imageView = new ImageView(tileImage);
+            if (tileSprite != null) {
+                ImageView imageView = tileSprite.createImageView();
                 imageView.setFitWidth(64);
                 imageView.setFitHeight(64);
                 imageView.setPreserveRatio(true);
@@ -0,0 +1,46 @@
+package com.eliemichel.polyfinite.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random source for the game simulation.
+ * One root instance is created per run and split into independent streams
+ * (waves, towers, drops), so the same seed and the same player actions
+ * always replay the same game. Not thread-safe: each stream belongs to one simulation.
+ */
+public final class SimRandom {
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    // Unseeded: picks a fresh seed, which getSeed() still reports
+    public SimRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public SimRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Child stream seeded from this one; children created in the same order get the same seeds
+    public SimRandom split() {
+        return new SimRandom(random.nextLong());
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+}
@@ -0,0 +1,111 @@
+package com.eliemichel.polyfinite.utils;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One shared Image per sprite, for every tower, enemy and projectile.
+ *
+ * A sprite id is its path under /sprites without the extension, e.g.
+ * "towers/basic_tower_base". Each sprite is decoded once, by the
+ * AssetPreloader or on first use, and every caller gets that same instance,
+ * so 200 towers hold two textures between them instead of 400.
+ */
+public class SpriteRegistry {
+
+    /** Every sprite the game draws; decoded up front by the AssetPreloader. */
+    public static final String[] ALL_SPRITES = {
+            "towers/basic_tower_base",
+            "towers/basic_tower_turret",
+            "towers/sniper_tower_base",
+            "towers/sniper_tower_turret",
+            "towers/cannon_tower_base",
+            "towers/cannon_tower_turret",
+            "towers/freezing_tower_base",
+            "towers/freezing_tower_turret",
+            "enemies/Regular",
+            "enemies/Fastbig",
+            "enemies/Strong",
+            "projectiles/basic_projectile"
+    };
+
+    // JavaFX keeps decoded images (and their textures) as 32-bit BGRA
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static SpriteRegistry instance;
+
+    // Read from the FX thread, filled by the preloader threads
+    private final Map<String, Image> sprites = new ConcurrentHashMap<>();
+    // Sprites whose file is missing or broken, so draws don't retry the disk every frame
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    private SpriteRegistry() {
+    }
+
+    public static synchronized SpriteRegistry getInstance() {
+        if (instance == null) {
+            instance = new SpriteRegistry();
+        }
+        return instance;
+    }
+
+    /** The shared image for the sprite, or null if it cannot be loaded. */
+    public Image get(String spriteId) {
+        Image image = sprites.get(spriteId);
+        if (image != null || missing.contains(spriteId)) {
+            return image;
+        }
+
+        image = sprites.computeIfAbsent(spriteId, this::decode);
+        if (image == null) {
+            missing.add(spriteId);
+        }
+        return image;
+    }
+
+    private Image decode(String spriteId) {
+        String path = "/sprites/" + spriteId + ".png";
+        try {
+            Image image = ImageLoader.load(path);
+            if (image.isError()) {
+                System.out.println("Error loading sprite " + path + ": " + image.getException());
+                return null;
+            }
+            return image;
+        } catch (Exception e) {
+            System.out.println("Error loading sprite " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Bytes of decoded pixels held by all loaded sprites (the GPU copies are the same size). */
+    public long getResidentBytes() {
+        long bytes = 0;
+        for (Image image : sprites.values()) {
+            bytes += residentBytes(image);
+        }
+        return bytes;
+    }
+
+    public void printMemoryReport() {
+        System.out.println("=== Sprite memory ===");
+        Map<String, Image> sorted = new TreeMap<>(sprites);
+        for (Map.Entry<String, Image> entry : sorted.entrySet()) {
+            Image image = entry.getValue();
+            System.out.printf("  %-32s %4dx%-4d %7.1f KB%n", entry.getKey(),
+                    (int) image.getWidth(), (int) image.getHeight(), residentBytes(image) / 1024.0);
+        }
+        for (String spriteId : missing) {
+            System.out.printf("  %-32s missing%n", spriteId);
+        }
+        System.out.printf("  %d sprites, %.2f MB resident%n", sprites.size(), getResidentBytes() / (1024.0 * 1024.0));
+    }
+
+    private static long residentBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
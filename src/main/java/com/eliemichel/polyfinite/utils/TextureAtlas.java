@@ -1,8 +1,6 @@
 package com.eliemichel.polyfinite.utils;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.WritableImage;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -13,10 +11,12 @@ import java.util.Map;
 public class TextureAtlas {
     private final Image atlasImage;
     private final Map<String, AtlasRegion> regions;
+    private final Map<String, AtlasSprite> sprites;
 
     public TextureAtlas(String atlasPath, String imagePath) {
-        this.atlasImage = new Image(getClass().getResourceAsStream(imagePath));
+        this.atlasImage = ImageLoader.load(imagePath);
         this.regions = new HashMap<>();
+        this.sprites = new HashMap<>();
         parseAtlas(atlasPath);
     }
 
@@ -45,7 +45,9 @@ public class TextureAtlas {
                     int height = Integer.parseInt(parts[3].trim());
 
                     if (currentRegionName != null) {
-                        regions.put(currentRegionName, new AtlasRegion(currentRegionName, x, y, width, height));
+                        AtlasRegion region = new AtlasRegion(currentRegionName, x, y, width, height);
+                        regions.put(currentRegionName, region);
+                        sprites.put(currentRegionName, new AtlasSprite(atlasImage, region));
                     }
                 }
             }
@@ -54,16 +56,20 @@ public class TextureAtlas {
         }
     }
 
-    public Image getRegion(String regionName) {
-        AtlasRegion region = regions.get(regionName);
-        if (region == null) {
+    /** The region as a drawable handle on the shared atlas texture; null if unknown. */
+    public AtlasSprite getSprite(String regionName) {
+        AtlasSprite sprite = sprites.get(regionName);
+        if (sprite == null) {
             System.err.println("Region not found: " + regionName);
-            return null;
         }
+        return sprite;
+    }
 
-        PixelReader reader = atlasImage.getPixelReader();
-        return new WritableImage(reader, region.getX(), region.getY(),
-                region.getWidth(), region.getHeight());
+    // OPTIMIZATION: Standalone copy of the region, made on the first call and shared after
+    // that; prefer getSprite() for anything drawn on a canvas
+    public Image getRegion(String regionName) {
+        AtlasSprite sprite = getSprite(regionName);
+        return sprite != null ? sprite.toImage() : null;
     }
 
     public AtlasRegion getRegionInfo(String regionName) {
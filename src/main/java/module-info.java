@@ -5,12 +5,15 @@ module com.eliemichel.polyfinite {
     requires com.google.gson;
     requires java.sql;
     requires javafx.media;
+    requires jdk.management;
+    requires jdk.jfr;
 
     opens com.eliemichel.polyfinite to javafx.fxml;
     opens com.eliemichel.polyfinite.domain.level to com.google.gson;
     opens com.eliemichel.polyfinite.domain.quests to com.google.gson;
     opens com.eliemichel.polyfinite.domain.quests.types to com.google.gson;
     opens com.eliemichel.polyfinite.domain.player to com.google.gson;
+    opens com.eliemichel.polyfinite.infrastructure.persistence to com.google.gson;
     opens com.eliemichel.polyfinite.ui.menu to javafx.fxml;
     opens com.eliemichel.polyfinite.ui.map to javafx.fxml;
     opens com.eliemichel.polyfinite.ui.gameplay to javafx.fxml;
@@ -22,6 +25,8 @@ module com.eliemichel.polyfinite {
     exports com.eliemichel.polyfinite.editor;
     exports com.eliemichel.polyfinite.utils;
     exports com.eliemichel.polyfinite.infrastructure.database;
+    exports com.eliemichel.polyfinite.infrastructure.persistence;
+    exports com.eliemichel.polyfinite.infrastructure.telemetry;
     exports com.eliemichel.polyfinite.domain.player;
     exports com.eliemichel.polyfinite.domain.level;
     exports com.eliemichel.polyfinite.domain.progression;